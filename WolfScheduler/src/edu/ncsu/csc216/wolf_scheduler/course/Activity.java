@@ -1,4 +1,8 @@
 package edu.ncsu.csc216.wolf_scheduler.course;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 /**
  * An general abstract class representing an Activity for a schedule.
  * Subclasses include a Course and an Event. Commoms aspects are a title,
@@ -13,6 +17,16 @@ public abstract class Activity implements Conflict {
 	private static final int UPPER_HOUR = 24;
 	/** Upper time limit for a minute in an Activity schedule */
 	private static final int UPPER_MINUTE = 60;
+	/** Meeting day characters in the bit order of a time key's day mask */
+	public static final String WEEK_DAYS = "MTWHFSU";
+	/** Time key bit set when the meeting days hold a character that is not a week day or a lone "A" */
+	private static final long UNKNOWN_DAYS = 1L << 39;
+	/** Position of the day mask in a time key */
+	private static final int DAYS_SHIFT = 32;
+	/** Position of the start minute in a time key */
+	private static final int START_SHIFT = 16;
+	/** Mask of the day mask, start minute, or end minute once shifted down */
+	private static final int FIELD_MASK = 0xFFFF;
 	/** Activity's title. */
 	private String title;
 	/** Activity's meeting days */
@@ -21,6 +35,8 @@ public abstract class Activity implements Conflict {
 	private int startTime;
 	/** Activity's ending time */
 	private int endTime;
+	/** Activity's meeting days, start minute, and end minute packed into one value */
+	private long timeKey;
 	
 	/**
 	 * Initializes the activity super class with base fields that all subclasses
@@ -121,9 +137,94 @@ public abstract class Activity implements Conflict {
 			this.meetingDays = meetingDays;
 			this.startTime = startTime;
 			this.endTime = endTime;
+			this.timeKey = timeKey(meetingDays, startTime, endTime);
 			
 		}
 	
+	/**
+	 * Packs meeting days and times into a time key. Bits 32 to 38 hold a mask of the
+	 * days in WEEK_DAYS order, bits 16 to 31 the start minute of the day, and bits 0
+	 * to 15 the end minute. Arranged meetings have no days. Bit 39 is set if the days
+	 * hold any other character, and such keys cannot be compared on their own. Keys
+	 * sort by days, then start, then end.
+	 * @param meetingDays the meeting days
+	 * @param startTime start time in military time
+	 * @param endTime end time in military time
+	 * @return the time key
+	 */
+	private static long timeKey(String meetingDays, int startTime, int endTime) {
+		long key = 0;
+		if (!"A".equals(meetingDays)) {
+			for (int i = 0; i < meetingDays.length(); i++) {
+				int day = WEEK_DAYS.indexOf(meetingDays.charAt(i));
+				key |= day < 0 ? UNKNOWN_DAYS : 1L << (DAYS_SHIFT + day);
+			}
+		}
+		int startMinute = startTime / 100 * UPPER_MINUTE + startTime % 100;
+		int endMinute = endTime / 100 * UPPER_MINUTE + endTime % 100;
+		return key | (long) startMinute << START_SHIFT | endMinute;
+	}
+	
+	/**
+	 * Returns the Activity's meeting days, start minute, and end minute packed into
+	 * one value, so that many activities can be compared as an array of longs.
+	 * @return the time key
+	 */
+	public long getTimeKey() {
+		return timeKey;
+	}
+	
+	/**
+	 * Returns the mask of week days in a time key, with bit i set for the day at
+	 * position i of WEEK_DAYS.
+	 * @param key the time key
+	 * @return the day mask
+	 */
+	public static int getDayMask(long key) {
+		return (int) (key >>> DAYS_SHIFT) & ((1 << WEEK_DAYS.length()) - 1);
+	}
+	
+	/**
+	 * Returns the start minute of the day in a time key.
+	 * @param key the time key
+	 * @return the start minute
+	 */
+	public static int getStartMinute(long key) {
+		return (int) (key >>> START_SHIFT) & FIELD_MASK;
+	}
+	
+	/**
+	 * Returns the end minute of the day in a time key.
+	 * @param key the time key
+	 * @return the end minute
+	 */
+	public static int getEndMinute(long key) {
+		return (int) key & FIELD_MASK;
+	}
+	
+	/**
+	 * Returns whether a time key's meeting days hold a character that is not a week
+	 * day. Such keys must be compared with checkConflict() instead.
+	 * @param key the time key
+	 * @return true if the key's days are not all known
+	 */
+	public static boolean hasUnknownDays(long key) {
+		return (key & UNKNOWN_DAYS) != 0;
+	}
+	
+	/**
+	 * Returns whether two time keys without unknown days conflict, exactly as
+	 * checkConflict() would: they share a day and their times overlap, counting an
+	 * end time equal to the other's start time as overlap.
+	 * @param key one time key
+	 * @param other the other time key
+	 * @return true if the keys conflict
+	 */
+	public static boolean conflicts(long key, long other) {
+		return getDayMask(key & other) != 0 && getStartMinute(key) <= getEndMinute(other)
+				&& getStartMinute(other) <= getEndMinute(key);
+	}
+	
 	
 	
 	/**
@@ -174,10 +275,19 @@ public abstract class Activity implements Conflict {
 	}
 	
 	/**
-	 * Checks for conflicts between Course events and schedule.
+	 * Checks for conflicts between Course events and schedule. Activities whose days
+	 * are all known are compared by their time keys, and any others by their meeting
+	 * day characters.
 	 */
 	@Override
 	public void checkConflict(Activity possibleConflictingActivity) throws ConflictException {
+			long otherKey = possibleConflictingActivity.timeKey;
+			if (!hasUnknownDays(timeKey) && !hasUnknownDays(otherKey)) {
+				if (conflicts(timeKey, otherKey)) {
+					throw new ConflictException();
+				}
+				return;
+			}
 			String currentMeetingDays = this.getMeetingDays();
 			String compareMeetingDays = possibleConflictingActivity.getMeetingDays();
 			int currentEndTime = this.getEndTime();
@@ -216,6 +326,53 @@ public abstract class Activity implements Conflict {
 	 */
 	public abstract String[] getLongDisplayArray();
 	
+	/**
+	 * Writes the Activity's comma separated value record, the same text returned by
+	 * toString(), without building an intermediate String.
+	 * @param out where to write the record
+	 * @throws IOException if out cannot be written
+	 */
+	public abstract void writeTo(Appendable out) throws IOException;
+	
+	/**
+	 * Returns a comma separated value String of all the Activity's fields.
+	 * @return String representation of the Activity
+	 */
+	@Override
+	public String toString() {
+		StringBuilder record = new StringBuilder();
+		try {
+			writeTo(record);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return record.toString();
+	}
+	
+	/**
+	 * Appends the decimal digits of an int without converting it to a String.
+	 * @param out where to write the digits
+	 * @param value the value to write
+	 * @throws IOException if out cannot be written
+	 */
+	protected static void appendInt(Appendable out, int value) throws IOException {
+		if (value < 0) {
+			if (value == Integer.MIN_VALUE) {
+				out.append("-2147483648");
+				return;
+			}
+			out.append('-');
+			value = -value;
+		}
+		int divisor = 1;
+		while (value / divisor >= 10) {
+			divisor *= 10;
+		}
+		for (; divisor > 0; divisor /= 10) {
+			out.append((char) ('0' + value / divisor % 10));
+		}
+	}
+	
 	/**
 	 * Checks if an Activity is a duplicate of another Activity
 	 * @param activity activity we are comparing against
@@ -1,8 +1,13 @@
 package edu.ncsu.csc216.wolf_scheduler.course;
 
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Creates a course object to represent a course in a student's schedule.
- * Relevant aspects are its name, section, credits and instructor. All other
+ * Relevant aspects are its name, section, credits and instructor. A Course may
+ * also have a seat capacity, with seats claimed and released atomically so many
+ * schedules can enroll in the same Course at once. All other
  * functionality is extended from Activity and overridden in various ways to suit a
  * Course object.
  * @author Ryan Blazer
@@ -26,6 +31,8 @@ public class Course extends Activity {
 	private static final int MAX_CREDITS = 5;
 	/** Minimum credits for Course */
 	private static final int MIN_CREDITS = 1;
+	/** Capacity of a Course without a seat limit */
+	private static final int NO_CAPACITY = -1;
 	/** Course's name. */
 	private String name;
 	/** Course's section. */
@@ -34,6 +41,10 @@ public class Course extends Activity {
 	private int credits;
 	/** Course's instructor */
 	private String instructorId;
+	/** Course's seat capacity */
+	private int capacity = NO_CAPACITY;
+	/** Number of seats claimed in the Course */
+	private final AtomicInteger enrollment = new AtomicInteger();
 	
 	/**
 	 * Constructs a Course object with values for all fields.
@@ -202,6 +213,72 @@ public class Course extends Activity {
 		this.instructorId = instructorId;
 	}
 	
+	/**
+	 * Returns the Course's seat capacity.
+	 * @return the capacity, or -1 if the Course has no seat limit
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+	
+	/**
+	 * Returns true if the Course has a seat limit.
+	 * @return true if the Course has a capacity
+	 */
+	public boolean hasCapacity() {
+		return capacity != NO_CAPACITY;
+	}
+	
+	/**
+	 * Sets the Course's seat capacity. If capacity is negative an
+	 * IllegalArgumentException is thrown.
+	 * @param capacity the capacity to set
+	 * @throws IllegalArgumentException if capacity parameter is invalid.
+	 */
+	public void setCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Invalid capacity.");
+		}
+		this.capacity = capacity;
+	}
+	
+	/**
+	 * Returns the number of seats currently claimed in the Course.
+	 * @return the enrollment
+	 */
+	public int getEnrollment() {
+		return enrollment.get();
+	}
+	
+	/**
+	 * Claims a seat in the Course. Uses compare-and-set so that concurrent
+	 * claims never enroll more students than the capacity.
+	 * @return true if a seat was claimed, false if the Course is full
+	 */
+	public boolean claimSeat() {
+		while (true) {
+			int current = enrollment.get();
+			if (hasCapacity() && current >= capacity) {
+				return false;
+			}
+			if (enrollment.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+	
+	/**
+	 * Releases a seat previously claimed in the Course.
+	 */
+	public void releaseSeat() {
+		while (true) {
+			int current = enrollment.get();
+			if (current == 0 || enrollment.compareAndSet(current, current - 1)) {
+				return;
+			}
+		}
+	}
+	
 	/**
 	 * Sets meeting times for an Course based on the days of the week
 	 * @param meetingDays the meeting days of the Course
@@ -253,15 +330,21 @@ public class Course extends Activity {
 
 
 	/**
-	 * Returns a comma separated value String of all Course fields.
-	 * @return String representation of Course
+	 * Writes a comma separated value record of all Course fields.
+	 * @param out where to write the record
+	 * @throws IOException if out cannot be written
 	 */
 	@Override
-	public String toString() {
-	    if ("A".equals(getMeetingDays())) {
-	        return name + "," + getTitle() + "," + section + "," + credits + "," + instructorId + "," + getMeetingDays();
-	    }
-	    return name + "," + getTitle() + "," + section + "," + credits + "," + instructorId + "," + getMeetingDays() + "," + getStartTime() + "," + getEndTime(); 
+	public void writeTo(Appendable out) throws IOException {
+		out.append(name).append(',').append(getTitle()).append(',').append(section).append(',');
+		appendInt(out, credits);
+		out.append(',').append(instructorId).append(',').append(getMeetingDays());
+		if (!"A".equals(getMeetingDays())) {
+			out.append(',');
+			appendInt(out, getStartTime());
+			out.append(',');
+			appendInt(out, getEndTime());
+		}
 	}
 
 	/**
@@ -1,5 +1,7 @@
 package edu.ncsu.csc216.wolf_scheduler.course;
 
+import java.io.IOException;
+
 /**
  * Creates an Event object to represent an event in a student's schedule.
  * Relevant aspects are the details of the event, other fields and behaivors are
@@ -68,12 +70,17 @@ public class Event extends Activity {
 	}
 	
 	/**
-	 * Returns a comma separated value String of all Event fields.
-	 * @return String representation of Event
+	 * Writes a comma separated value record of all Event fields.
+	 * @param out where to write the record
+	 * @throws IOException if out cannot be written
 	 */
 	@Override
-	public String toString() {
-		return getTitle() + "," + getMeetingDays() + "," + getStartTime() + "," + getEndTime() + "," + this.eventDetails;
+	public void writeTo(Appendable out) throws IOException {
+		out.append(getTitle()).append(',').append(getMeetingDays()).append(',');
+		appendInt(out, getStartTime());
+		out.append(',');
+		appendInt(out, getEndTime());
+		out.append(',').append(this.eventDetails);
 	}
 	
 	/**
@@ -0,0 +1,134 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+
+/**
+ * Encodes Activity records as UTF-8 lines into a reusable byte buffer and writes
+ * the buffer to a channel whenever it fills. Each record is written by the
+ * Activity's writeTo() into a reused character buffer, so once the buffers have
+ * grown to fit the longest record, encoding allocates nothing per Activity. An
+ * encoder is not thread safe; give each thread its own.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class ActivityRecordEncoder {
+
+	/** Default size of the byte buffer */
+	public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+	/** Line separator written after each record */
+	private static final String NEW_LINE = System.lineSeparator();
+
+	/** Record text of the Activity being encoded */
+	private final StringBuilder line;
+	/** Characters of the record being encoded */
+	private char[] chars;
+	/** View of chars passed to the encoder */
+	private CharBuffer charBuffer;
+	/** Encodes characters to UTF-8 */
+	private final CharsetEncoder encoder;
+	/** Encoded bytes waiting to be written */
+	private final ByteBuffer buffer;
+
+	/**
+	 * Constructs an ActivityRecordEncoder with the default buffer size.
+	 */
+	public ActivityRecordEncoder() {
+		this(DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Constructs an ActivityRecordEncoder.
+	 * @param bufferSize size of the byte buffer
+	 * @throws IllegalArgumentException if bufferSize is less than 16
+	 */
+	public ActivityRecordEncoder(int bufferSize) {
+		if (bufferSize < 16) {
+			throw new IllegalArgumentException("Invalid buffer size.");
+		}
+		this.line = new StringBuilder();
+		this.chars = new char[128];
+		this.charBuffer = CharBuffer.wrap(chars);
+		this.encoder = StandardCharsets.UTF_8.newEncoder();
+		this.buffer = ByteBuffer.allocate(bufferSize);
+	}
+
+	/**
+	 * Encodes an Activity's record and a line separator, writing the buffer to out
+	 * whenever it fills.
+	 * @param activity the Activity to encode
+	 * @param out channel to write full buffers to
+	 * @throws IOException if out cannot be written or the record cannot be encoded
+	 */
+	public void encode(Activity activity, WritableByteChannel out) throws IOException {
+		line.setLength(0);
+		activity.writeTo(line);
+		line.append(NEW_LINE);
+		int length = line.length();
+		if (length > chars.length) {
+			chars = new char[Math.max(length, chars.length * 2)];
+			charBuffer = CharBuffer.wrap(chars);
+		}
+		line.getChars(0, length, chars, 0);
+		charBuffer.limit(length).position(0);
+		encoder.reset();
+		while (true) {
+			CoderResult result = encoder.encode(charBuffer, buffer, true);
+			if (result.isOverflow()) {
+				drain(out);
+			} else if (result.isError()) {
+				throw new CharacterCodingException();
+			} else {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of encoded bytes not yet written.
+	 * @return the number of buffered bytes
+	 */
+	public int getBufferedBytes() {
+		return buffer.position();
+	}
+
+	/**
+	 * Discards any buffered bytes, such as those left by a failed write, so the
+	 * encoder can be reused.
+	 */
+	public void reset() {
+		buffer.clear();
+	}
+
+	/**
+	 * Writes every buffered byte to out.
+	 * @param out channel to write to
+	 * @throws IOException if out cannot be written
+	 */
+	public void flush(WritableByteChannel out) throws IOException {
+		drain(out);
+	}
+
+	/**
+	 * Writes the buffer to a channel and clears it.
+	 * @param out channel to write to
+	 * @throws IOException if out cannot be written
+	 */
+	private void drain(WritableByteChannel out) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			out.write(buffer);
+		}
+		buffer.clear();
+	}
+
+}
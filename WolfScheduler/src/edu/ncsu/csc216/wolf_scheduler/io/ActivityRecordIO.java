@@ -3,22 +3,55 @@
  */
 package edu.ncsu.csc216.wolf_scheduler.io;
 
-import java.io.File;
+import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
 
 /**
  * Writes activites to a file. Uses the activity class to
  * write appropriate file details depending on if its a Course or Event.
- * Exported in the correct format for correct viewing in the GUI.
+ * Exported in the correct format for correct viewing in the GUI. Reads
+ * exported files back, resolving each course against a catalog.
+ *
+ * The records are written to a temporary file next to the target, forced to disk,
+ * and renamed over the target, so a crash part way through leaves either the old
+ * file or the complete new one. A target reached through a symbolic link is
+ * replaced where the link points, and the new file keeps the old one's
+ * permissions. Writes go through one large buffer so that slow network file
+ * systems see few, large writes.
  * @author Ryan
  * @version 01/25/2023
  */
 public class ActivityRecordIO {
 
+	/**
+	 * Writes the contents of a file to the channel of its temporary file.
+	 */
+	public interface ChannelWriter {
+
+		/**
+		 * Writes the file's contents.
+		 * @param out channel of the temporary file
+		 * @throws IOException if the contents cannot be written
+		 */
+		void write(FileChannel out) throws IOException;
+	}
+
 	/**
 	 * Writes the given list of Activities to a file
 	 * @param fileName file to save to 	
@@ -26,14 +59,171 @@ public class ActivityRecordIO {
 	 * @throws IOException if the file cannot be written
 	 */
 	public static void writeActivityRecords(String fileName, ArrayList<Activity> activities) throws IOException {
-		PrintStream fileWriter = new PrintStream(new File(fileName));
-	
+		writeActivityRecords(fileName, activities, new ActivityRecordEncoder());
+	}
+
+	/**
+	 * Writes the given list of Activities to a file using an encoder that can be
+	 * reused across many files.
+	 * @param fileName file to save to
+	 * @param activities list of activites to save
+	 * @param encoder the encoder to write through
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void writeActivityRecords(String fileName, ArrayList<Activity> activities,
+			ActivityRecordEncoder encoder) throws IOException {
+		replaceFile(fileName, out -> writeRecords(out, activities, encoder));
+	}
+
+	/**
+	 * Writes the contents of a file durably in the same way as writeActivityRecords():
+	 * the writer fills a temporary file next to the target, which is forced to disk
+	 * and renamed over the target, and the directory is then synced. A target
+	 * reached through a symbolic link is replaced where the link points, and the new
+	 * file keeps the old one's permissions.
+	 * @param fileName the file to replace
+	 * @param writer writes the new contents to the temporary file's channel
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void replaceFile(String fileName, ChannelWriter writer) throws IOException {
+		Path target = Paths.get(fileName).toAbsolutePath();
+		if (Files.exists(target)) {
+			target = target.toRealPath();
+		}
+		Path dir = target.getParent();
+		Path temp = createTemp(target);
+		try {
+			try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				writer.write(out);
+				out.force(true);
+			}
+			try {
+				Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+		syncDirectory(dir);
+	}
+
+	/**
+	 * Creates an empty temporary file next to a target. The file gets the target's
+	 * permissions if the target exists, and otherwise the same permissions as any new
+	 * file, rather than the owner-only permissions of Files.createTempFile().
+	 * @param target the file the temporary file will replace
+	 * @return the temporary file
+	 * @throws IOException if the file cannot be created
+	 */
+	private static Path createTemp(Path target) throws IOException {
+		Path temp;
+		while (true) {
+			temp = target.resolveSibling("." + target.getFileName() + "."
+					+ Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+			try {
+				Files.createFile(temp);
+				break;
+			} catch (FileAlreadyExistsException e) {
+				// Another writer picked the same name, try another
+			}
+		}
+		try {
+			if (Files.exists(target)) {
+				Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(target));
+			}
+		} catch (UnsupportedOperationException e) {
+			// Not a POSIX file system, the new file keeps its default permissions
+		} catch (IOException e) {
+			Files.deleteIfExists(temp);
+			throw e;
+		}
+		return temp;
+	}
+
+	/**
+	 * Reads an exported schedule in one pass. A line whose name and section are found
+	 * by the catalog lookup, and whose title matches, is a Course and the catalog's
+	 * Course is returned for it. Any other line is read as an Event. A line that is
+	 * neither, such as a course no longer in the catalog, is returned as null so the
+	 * caller can report it, and blank lines are skipped. Fields are split with
+	 * indexOf rather than a Scanner, and an Event's details may contain commas. The
+	 * file is read as UTF-8, the charset writeActivityRecords() uses.
+	 * @param fileName file to read activity records from
+	 * @param catalog looks up a Course by name and section, returning null if there
+	 *        is none
+	 * @return the activity on each non-blank line in file order, null where the line
+	 *         is neither a Course nor an Event
+	 * @throws IOException if the file cannot be found or read
+	 */
+	public static ArrayList<Activity> readActivityRecords(String fileName,
+			BiFunction<String, String, Course> catalog) throws IOException {
+		ArrayList<Activity> activities = new ArrayList<Activity>();
+		try (BufferedReader reader = Files.newBufferedReader(Paths.get(fileName), StandardCharsets.UTF_8)) {
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				if (!line.isBlank()) {
+					activities.add(readActivity(line, catalog));
+				}
+			}
+		}
+		return activities;
+	}
+
+	/**
+	 * Processes one line of an exported schedule.
+	 * @param line the line to process
+	 * @param catalog looks up a Course by name and section
+	 * @return the Course or Event on the line, or null if the line is invalid
+	 */
+	private static Activity readActivity(String line, BiFunction<String, String, Course> catalog) {
+		int first = line.indexOf(',');
+		int second = first < 0 ? -1 : line.indexOf(',', first + 1);
+		int third = second < 0 ? -1 : line.indexOf(',', second + 1);
+		int fourth = third < 0 ? -1 : line.indexOf(',', third + 1);
+		if (fourth < 0) {
+			return null;
+		}
+		Course course = catalog.apply(line.substring(0, first), line.substring(second + 1, third));
+		if (course != null && line.regionMatches(first + 1, course.getTitle(), 0, second - first - 1)
+				&& course.getTitle().length() == second - first - 1) {
+			return course;
+		}
+		try {
+			return new Event(line.substring(0, first), line.substring(first + 1, second),
+					Integer.parseInt(line.substring(second + 1, third)),
+					Integer.parseInt(line.substring(third + 1, fourth)), line.substring(fourth + 1));
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Encodes the activities one record per line and writes them to a channel.
+	 * @param out channel to write to
+	 * @param activities activities to write
+	 * @param encoder the encoder to write through
+	 * @throws IOException if the channel cannot be written
+	 */
+	private static void writeRecords(FileChannel out, ArrayList<Activity> activities,
+			ActivityRecordEncoder encoder) throws IOException {
+		encoder.reset();
 		for (Activity a : activities) {
-			fileWriter.println(a.toString());
+			encoder.encode(a, out);
+		}
+		encoder.flush(out);
+	}
+
+	/**
+	 * Forces a directory entry change to disk. Not every platform can open a
+	 * directory as a channel, so failure is ignored.
+	 * @param dir the directory to sync
+	 */
+	static void syncDirectory(Path dir) {
+		try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+			channel.force(true);
+		} catch (IOException e) {
+			// Directory sync is not supported here
 		}
-	
-		fileWriter.close();
-		
 	}
 
 }
@@ -0,0 +1,93 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * One row of a catalog change file. A change adds a new section, removes a section,
+ * or modifies an existing section, and is identified by the section's name and
+ * section number. Add and modify changes carry the full Course for the section.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class CourseChange {
+
+	/** Operation that adds a new section */
+	public static final String ADD = "add";
+	/** Operation that removes a section */
+	public static final String REMOVE = "remove";
+	/** Operation that replaces a section */
+	public static final String MODIFY = "modify";
+
+	/** The change's operation */
+	private String operation;
+	/** Name of the changed course */
+	private String name;
+	/** Section of the changed course */
+	private String section;
+	/** The new Course, or null for a removal */
+	private Course course;
+
+	/**
+	 * Constructs a change that adds or modifies a section.
+	 * @param operation ADD or MODIFY
+	 * @param course the new Course for the section
+	 * @throws IllegalArgumentException if the operation or course is invalid
+	 */
+	public CourseChange(String operation, Course course) {
+		if (!ADD.equals(operation) && !MODIFY.equals(operation) || course == null) {
+			throw new IllegalArgumentException("Invalid change.");
+		}
+		this.operation = operation;
+		this.name = course.getName();
+		this.section = course.getSection();
+		this.course = course;
+	}
+
+	/**
+	 * Constructs a change that removes a section.
+	 * @param name name of the course
+	 * @param section section of the course
+	 * @throws IllegalArgumentException if the name or section is null
+	 */
+	public CourseChange(String name, String section) {
+		if (name == null || section == null) {
+			throw new IllegalArgumentException("Invalid change.");
+		}
+		this.operation = REMOVE;
+		this.name = name;
+		this.section = section;
+	}
+
+	/**
+	 * Returns the change's operation.
+	 * @return ADD, REMOVE, or MODIFY
+	 */
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * Returns the name of the changed course.
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the section of the changed course.
+	 * @return the section
+	 */
+	public String getSection() {
+		return section;
+	}
+
+	/**
+	 * Returns the new Course for an add or modify change.
+	 * @return the Course, or null for a removal
+	 */
+	public Course getCourse() {
+		return course;
+	}
+
+}
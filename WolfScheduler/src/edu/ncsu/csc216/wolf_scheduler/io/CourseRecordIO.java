@@ -3,10 +3,21 @@
  */
 package edu.ncsu.csc216.wolf_scheduler.io;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Scanner;
+import java.util.zip.GZIPInputStream;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
 
@@ -18,57 +29,189 @@ import edu.ncsu.csc216.wolf_scheduler.course.Course;
  */
 public class CourseRecordIO {
 	
+	/** First byte of a gzip stream */
+	private static final int GZIP_MAGIC_1 = 0x1f;
+	/** Second byte of a gzip stream */
+	private static final int GZIP_MAGIC_2 = 0x8b;
+	/** File name that reads from standard input */
+	public static final String STDIN = "-";
+	
 	/**
      * Reads course records from a file and generates a list of valid Courses.  Any invalid
      * Courses are ignored.  If the file to read cannot be found or the permissions are incorrect
-     * a File NotFoundException is thrown.
+     * a File NotFoundException is thrown. A gzip compressed file is decompressed as it is
+     * read, and a file name of "-" reads from standard input.
      * @param fileName file to read Course records from
      * @return a list of valid Courses
      * @throws FileNotFoundException if the file cannot be found or read
      */
 	public static ArrayList<Course> readCourseRecords(String fileName) throws FileNotFoundException {
-		Scanner fileReader = new Scanner(new FileInputStream(fileName));  //Create a file scanner to read the file
-	    ArrayList<Course> courses = new ArrayList<Course>(); //Create an empty array of Course objects
-	    while (fileReader.hasNextLine()) { //While we have more lines in the file
-	        try { //Attempt to do the following
-	            //Read the line, process it in readCourse, and get the object
-	            //If trying to construct a Course in readCourse() results in an exception, flow of control will transfer to the catch block, below
-	            Course course = readCourse(fileReader.nextLine()); 
-
-	            //Create a flag to see if the newly created Course is a duplicate of something already in the list  
-	            boolean duplicate = false;
-	            //Look at all the courses in our list
-	            for (int i = 0; i < courses.size(); i++) {
-	                //Get the course at index i
-	                Course current = courses.get(i);
-	                //Check if the name and section are the same
-	                if (course.getName().equals(current.getName()) &&
-	                        course.getSection().equals(current.getSection())) {
-	                    //It's a duplicate!
-	                    duplicate = true;
-	                    break; //We can break out of the loop, no need to continue searching
-	                }
-	            }
-	            //If the course is NOT a duplicate
-	            if (!duplicate) {
-	                courses.add(course); //Add to the ArrayList!
-	            } //Otherwise ignore
-	        } catch (IllegalArgumentException e) {
-	            //The line is invalid b/c we couldn't create a course, skip it!
-	        }
-	    }
-	    //Close the Scanner b/c we're responsible with our file handles
-	    fileReader.close();
-	    //Return the ArrayList with all the courses we read!
-	    return courses;
+		try {
+			if (STDIN.equals(fileName)) {
+				return readCourseRecords(System.in);
+			}
+			try (InputStream in = new FileInputStream(fileName)) {
+				return readCourseRecords(in);
+			}
+		} catch (FileNotFoundException e) {
+			throw e;
+		} catch (IOException e) {
+			FileNotFoundException notRead = new FileNotFoundException(fileName);
+			notRead.initCause(e);
+			throw notRead;
+		}
+	}
+	
+	/**
+	 * Reads course records from a file, decompressing it if it is gzip compressed.
+	 * Any invalid Courses are ignored.
+	 * @param path file to read Course records from
+	 * @return a list of valid Courses
+	 * @throws IOException if the file cannot be found or read
+	 */
+	public static ArrayList<Course> readCourseRecords(Path path) throws IOException {
+		try (InputStream in = Files.newInputStream(path)) {
+			return readCourseRecords(in);
+		}
 	}
+	
 	/**
-	 * Processes each line from the course file.
+	 * Reads UTF-8 course records from a stream. If the stream starts with the gzip
+	 * magic number it is decompressed as it is read. Any invalid Courses are ignored.
+	 * The stream is not closed.
+	 * @param in stream to read Course records from
+	 * @return a list of valid Courses
+	 * @throws IOException if the stream cannot be read
+	 */
+	public static ArrayList<Course> readCourseRecords(InputStream in) throws IOException {
+		return readCourseRecords(openReader(in));
+	}
+	
+	/**
+	 * Opens a UTF-8 Reader on a stream, decompressing it if it starts with the gzip
+	 * magic number.
+	 * @param in stream of course records
+	 * @return a Reader of the records
+	 * @throws IOException if the stream cannot be read
+	 */
+	static Reader openReader(InputStream in) throws IOException {
+		BufferedInputStream buffered = new BufferedInputStream(in);
+		buffered.mark(2);
+		int first = buffered.read();
+		int second = buffered.read();
+		buffered.reset();
+		InputStream records = buffered;
+		if (first == GZIP_MAGIC_1 && second == GZIP_MAGIC_2) {
+			records = new GZIPInputStream(buffered);
+		}
+		return new InputStreamReader(records, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Reads course records from a Reader one line at a time. Any invalid Courses are
+	 * ignored, and if more than one Course has the same name and section only the
+	 * first is kept. The Reader is not closed.
+	 * @param in Reader to read Course records from
+	 * @return a list of valid Courses
+	 * @throws IOException if the Reader cannot be read
+	 */
+	public static ArrayList<Course> readCourseRecords(Reader in) throws IOException {
+		BufferedReader reader = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in);
+		ArrayList<Course> courses = new ArrayList<Course>();
+		HashSet<String> keys = new HashSet<String>();
+		for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+			try {
+				Course course = readCourse(line);
+				if (keys.add(course.getName() + "," + course.getSection())) {
+					courses.add(course);
+				}
+			} catch (IllegalArgumentException e) {
+				// The line is invalid, skip it
+			}
+		}
+		return courses;
+	}
+	
+	/**
+	 * Reads a catalog change file and generates a list of valid changes in file order.
+	 * Each line starts with an operation column of add, remove, or modify followed by
+	 * a course record in the same format as the catalog. A remove line may instead
+	 * give only the name and section. Invalid lines are ignored. Like a catalog file,
+	 * a gzip compressed change file is decompressed as it is read, and a file name of
+	 * "-" reads from standard input.
+	 * @param fileName file to read changes from
+	 * @return a list of valid changes
+	 * @throws FileNotFoundException if the file cannot be found or read
+	 */
+	public static ArrayList<CourseChange> readCourseChanges(String fileName) throws FileNotFoundException {
+		try {
+			if (STDIN.equals(fileName)) {
+				return readCourseChanges(openReader(System.in));
+			}
+			try (InputStream in = new FileInputStream(fileName)) {
+				return readCourseChanges(openReader(in));
+			}
+		} catch (FileNotFoundException e) {
+			throw e;
+		} catch (IOException e) {
+			FileNotFoundException notRead = new FileNotFoundException(fileName);
+			notRead.initCause(e);
+			throw notRead;
+		}
+	}
+	
+	/**
+	 * Reads catalog changes from a Reader one line at a time. Invalid lines are
+	 * ignored. The Reader is not closed.
+	 * @param in Reader to read changes from
+	 * @return a list of valid changes in input order
+	 * @throws IOException if the Reader cannot be read
+	 */
+	public static ArrayList<CourseChange> readCourseChanges(Reader in) throws IOException {
+		BufferedReader reader = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in);
+		ArrayList<CourseChange> changes = new ArrayList<CourseChange>();
+		for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+			try {
+				changes.add(readChange(line));
+			} catch (IllegalArgumentException e) {
+				// The line is invalid, skip it
+			}
+		}
+		return changes;
+	}
+	
+	/**
+	 * Processes one line of a change file.
+	 * @param line the line to process
+	 * @return the change on the line
+	 * @throws IllegalArgumentException if the line is not a valid change
+	 */
+	private static CourseChange readChange(String line) {
+		int comma = line.indexOf(',');
+		if (comma < 0) {
+			throw new IllegalArgumentException("Invalid change.");
+		}
+		String operation = line.substring(0, comma);
+		String record = line.substring(comma + 1);
+		if (CourseChange.REMOVE.equals(operation)) {
+			String[] fields = record.split(",", -1);
+			if (fields.length == 2) {
+				return new CourseChange(fields[0], fields[1]);
+			}
+			Course course = readCourse(record);
+			return new CourseChange(course.getName(), course.getSection());
+		}
+		return new CourseChange(operation, readCourse(record));
+	}
+	
+	/**
+	 * Processes each line from the course file. A line may end with an optional
+	 * seat capacity column after the meeting days and times.
 	 * @param line the next line in the text file.
 	 * @return a valid course to add to the list
 	 * @throws IllegalArgumentException if file has more tokens after read lines.
 	 */
-	private static Course readCourse(String line) {
+	public static Course readCourse(String line) {
 		Scanner lineReader = new Scanner(line);
 		lineReader.useDelimiter(",");
 		try {
@@ -79,24 +222,23 @@ public class CourseRecordIO {
 			String courseInstructor = lineReader.next();
 			String courseMeetingDays = lineReader.next();
 			
+			Course course;
 			if ("A".equals(courseMeetingDays)) {
-				if (lineReader.hasNext()) {
-					lineReader.close();
-					throw new IllegalArgumentException("Invalid course.");
-				} else {
-					lineReader.close();
-					return new Course(courseName, courseTitle, courseSection, courseCredits, courseInstructor, courseMeetingDays);
-				}
+				course = new Course(courseName, courseTitle, courseSection, courseCredits, courseInstructor, courseMeetingDays);
 			} else {
 				int courseStartTime = lineReader.nextInt();
 				int courseEndTime = lineReader.nextInt();
-				if (lineReader.hasNext()) {
-					lineReader.close();
-					throw new IllegalArgumentException("Invalid course.");
-				}
+				course = new Course(courseName, courseTitle, courseSection, courseCredits, courseInstructor, courseMeetingDays, courseStartTime, courseEndTime);
+			}
+			if (lineReader.hasNext()) {
+				course.setCapacity(lineReader.nextInt());
+			}
+			if (lineReader.hasNext()) {
 				lineReader.close();
-				return new Course(courseName, courseTitle, courseSection, courseCredits, courseInstructor, courseMeetingDays, courseStartTime, courseEndTime);
+				throw new IllegalArgumentException("Invalid course.");
 			}
+			lineReader.close();
+			return course;
 			
 		} catch (Exception e){
 			
@@ -0,0 +1,531 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+
+/**
+ * A durable store of many students' schedules. Each schedule is a list of activity
+ * records in the format written by ActivityRecordIO. The store keeps these files in
+ * its directory:
+ * <ul>
+ * <li>enrollment.log - an append-only log of add, remove, and reset operations</li>
+ * <li>snapshot.N.dat - every student's schedule as of compaction number N</li>
+ * <li>snapshot.N.idx - the log sequence snapshot N includes and each student's
+ * offset in it</li>
+ * <li>snapshot.manifest - the number of the current snapshot</li>
+ * </ul>
+ * An operation returns once its log record has been forced to disk, and only then
+ * is it visible to readers. Threads that commit at the same time share a single
+ * force, so many operations are made durable by one fsync. When the log grows past
+ * a threshold it is compacted: every pending record is made durable first, a new
+ * numbered snapshot is written beside the current one, and the manifest is renamed
+ * over the old one to switch to it. The directory is then forced before the log is
+ * emptied, so the rename of the manifest is the single point where a compaction
+ * takes effect.
+ *
+ * Opening the store reads only the index and the short log written since the last
+ * compaction. A student's schedule is read from the snapshot the first time it is
+ * used. Each log record carries a sequence number and a checksum, so records already
+ * in the snapshot are skipped and a record torn by a crash ends the replay.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class EnrollmentStore implements Closeable {
+
+	/** Log operation that adds an activity record */
+	private static final String ADD = "A";
+	/** Log operation that removes an activity record by index */
+	private static final String REMOVE = "R";
+	/** Log operation that clears a schedule */
+	private static final String RESET = "X";
+	/** Name of the log file */
+	private static final String LOG_FILE = "enrollment.log";
+	/** Prefix of the numbered snapshot and index files */
+	private static final String SNAPSHOT_PREFIX = "snapshot.";
+	/** Suffix of a snapshot file */
+	private static final String SNAPSHOT_SUFFIX = ".dat";
+	/** Suffix of a snapshot index file */
+	private static final String INDEX_SUFFIX = ".idx";
+	/** Name of the file holding the current snapshot's number */
+	private static final String MANIFEST_FILE = "snapshot.manifest";
+	/** Suffix of files being written during compaction */
+	private static final String TEMP_SUFFIX = ".tmp";
+	/** Number of fields in a log record */
+	private static final int LOG_FIELDS = 5;
+	/** Radix of the checksum in a log record */
+	private static final int HEX = 16;
+
+	/** Directory holding the store's files */
+	private final Path dir;
+	/** Log size in bytes that triggers a compaction */
+	private final long compactThreshold;
+	/** Open log file */
+	private final FileChannel log;
+	/** Schedules that have been read or changed since the last compaction */
+	private final HashMap<String, ArrayList<String>> schedules;
+	/** Offset of each student's schedule in the snapshot */
+	private HashMap<String, Long> index;
+	/** Last log sequence included in the snapshot */
+	private long snapshotSeq;
+	/** Number of the current snapshot, 0 if there is none */
+	private long generation;
+	/** Log records appended but not yet written to the log */
+	private final ByteArrayOutputStream pending;
+	/** Operation, student, and payload of each record not yet applied, in log order */
+	private final ArrayList<String[]> pendingOps;
+	/** Failure that left the log in an unknown state, after which nothing is committed */
+	private IOException failure;
+	/** Sequence of the last appended log record */
+	private long appendedSeq;
+	/** Sequence of the last log record forced to disk */
+	private long durableSeq;
+	/** Lock held while writing and forcing the log */
+	private final Object flushLock = new Object();
+
+	/**
+	 * Opens an EnrollmentStore in a directory, creating it if needed, and recovers
+	 * from the snapshot index and log.
+	 * @param directory the directory holding the store's files
+	 * @param compactThreshold log size in bytes that triggers a compaction
+	 * @throws IOException if the store cannot be opened or recovered
+	 */
+	public EnrollmentStore(String directory, long compactThreshold) throws IOException {
+		this.dir = Path.of(directory);
+		this.compactThreshold = compactThreshold;
+		this.schedules = new HashMap<String, ArrayList<String>>();
+		this.index = new HashMap<String, Long>();
+		this.pending = new ByteArrayOutputStream();
+		this.pendingOps = new ArrayList<String[]>();
+		Files.createDirectories(dir);
+		readIndex();
+		this.log = FileChannel.open(dir.resolve(LOG_FILE), StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+		replayLog();
+	}
+
+	/**
+	 * Adds an activity to the end of a student's schedule.
+	 * @param student the student's id
+	 * @param activity the activity to add
+	 * @throws IOException if the operation cannot be made durable
+	 */
+	public void add(String student, Activity activity) throws IOException {
+		String record = activity.toString();
+		if (record.indexOf('\n') >= 0 || record.indexOf('\r') >= 0) {
+			throw new IllegalArgumentException("Invalid activity.");
+		}
+		commit(ADD, student, record);
+	}
+
+	/**
+	 * Removes the activity at an index of a student's schedule.
+	 * @param student the student's id
+	 * @param idx index of the activity to remove
+	 * @throws IOException if the operation cannot be made durable
+	 * @throws IndexOutOfBoundsException if idx is not in the schedule
+	 */
+	public void remove(String student, int idx) throws IOException {
+		commit(REMOVE, student, "" + idx);
+	}
+
+	/**
+	 * Clears a student's schedule.
+	 * @param student the student's id
+	 * @throws IOException if the operation cannot be made durable
+	 */
+	public void reset(String student) throws IOException {
+		commit(RESET, student, "");
+	}
+
+	/**
+	 * Returns a copy of a student's schedule as activity records. Operations that
+	 * are not yet durable are not included.
+	 * @param student the student's id
+	 * @return the student's activity records, empty if the student is unknown
+	 * @throws IOException if the schedule cannot be read from the snapshot
+	 */
+	public synchronized List<String> getSchedule(String student) throws IOException {
+		return new ArrayList<String>(loadSchedule(student));
+	}
+
+	/**
+	 * Appends an operation to the log and waits until it is durable. The operation
+	 * is applied to the schedules only once its record is on disk.
+	 * @param op the operation
+	 * @param student the student's id
+	 * @param payload the operation's data
+	 * @throws IOException if the log cannot be written
+	 * @throws IndexOutOfBoundsException if a remove is not in the schedule
+	 */
+	private void commit(String op, String student, String payload) throws IOException {
+		if (student == null || student.isEmpty() || student.indexOf(',') >= 0 || student.indexOf('\n') >= 0) {
+			throw new IllegalArgumentException("Invalid student.");
+		}
+		long seq;
+		synchronized (this) {
+			if (failure != null) {
+				throw new IOException("Enrollment log failed.", failure);
+			}
+			if (REMOVE.equals(op)) {
+				int idx = Integer.parseInt(payload);
+				if (idx < 0 || idx >= pendingSize(student)) {
+					throw new IndexOutOfBoundsException("Invalid index.");
+				}
+			}
+			seq = ++appendedSeq;
+			String body = seq + "," + op + "," + student + "," + payload;
+			byte[] line = (Long.toHexString(checksum(body)) + "," + body + "\n").getBytes(StandardCharsets.UTF_8);
+			pending.write(line, 0, line.length);
+			pendingOps.add(new String[] {op, student, payload});
+		}
+		sync(seq);
+	}
+
+	/**
+	 * Returns the size a student's schedule will have once every record not yet
+	 * applied is durable, counting records that are being written as well as those
+	 * still waiting. Must be called holding the store's lock.
+	 * @param student the student's id
+	 * @return the size of the schedule after the pending records
+	 * @throws IOException if the snapshot cannot be read
+	 */
+	private int pendingSize(String student) throws IOException {
+		int size = loadSchedule(student).size();
+		for (String[] op : pendingOps) {
+			if (op[1].equals(student)) {
+				if (ADD.equals(op[0])) {
+					size++;
+				} else if (REMOVE.equals(op[0])) {
+					size--;
+				} else {
+					size = 0;
+				}
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Waits until a log record is durable. The first thread to arrive writes and
+	 * forces every pending record; threads behind it find their records already
+	 * durable and return without forcing again.
+	 * @param seq sequence of the record to wait for
+	 * @throws IOException if the log cannot be written
+	 */
+	private void sync(long seq) throws IOException {
+		boolean compact = false;
+		synchronized (flushLock) {
+			if (durableSeq >= seq) {
+				return;
+			}
+			flush();
+			compact = log.size() > compactThreshold;
+		}
+		if (compact) {
+			compact();
+		}
+	}
+
+	/**
+	 * Writes and forces every pending record, then applies them to the schedules.
+	 * Must be called holding flushLock. The records being written stay in pendingOps
+	 * until they are applied, so operations validated meanwhile still see them. If
+	 * the log cannot be written the store stops accepting operations, since it is
+	 * unknown which records reached the disk.
+	 * @throws IOException if the log cannot be written
+	 */
+	private void flush() throws IOException {
+		byte[] batch;
+		int count;
+		long last;
+		synchronized (this) {
+			if (failure != null) {
+				throw new IOException("Enrollment log failed.", failure);
+			}
+			batch = pending.toByteArray();
+			pending.reset();
+			count = pendingOps.size();
+			last = appendedSeq;
+		}
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(batch);
+			while (buffer.hasRemaining()) {
+				log.write(buffer, log.size());
+			}
+			log.force(false);
+			synchronized (this) {
+				List<String[]> written = pendingOps.subList(0, count);
+				for (String[] op : written) {
+					apply(loadSchedule(op[1]), op[0], op[2]);
+				}
+				written.clear();
+			}
+		} catch (IOException e) {
+			synchronized (this) {
+				failure = e;
+			}
+			throw e;
+		}
+		durableSeq = last;
+	}
+
+	/**
+	 * Applies an operation to a schedule.
+	 * @param schedule the schedule to change
+	 * @param op the operation
+	 * @param payload the operation's data
+	 */
+	private static void apply(ArrayList<String> schedule, String op, String payload) {
+		if (ADD.equals(op)) {
+			schedule.add(payload);
+		} else if (REMOVE.equals(op)) {
+			schedule.remove(Integer.parseInt(payload));
+		} else {
+			schedule.clear();
+		}
+	}
+
+	/**
+	 * Returns a student's schedule, reading it from the snapshot on first use.
+	 * @param student the student's id
+	 * @return the student's schedule
+	 * @throws IOException if the snapshot cannot be read
+	 */
+	private ArrayList<String> loadSchedule(String student) throws IOException {
+		ArrayList<String> schedule = schedules.get(student);
+		if (schedule == null) {
+			schedule = new ArrayList<String>();
+			Long offset = index.get(student);
+			if (offset != null) {
+				try (FileChannel snapshot = FileChannel.open(snapshotFile(generation, SNAPSHOT_SUFFIX))) {
+					snapshot.position(offset);
+					BufferedReader reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(snapshot), StandardCharsets.UTF_8));
+					int count = Integer.parseInt(reader.readLine().split(",")[1]);
+					for (int i = 0; i < count; i++) {
+						schedule.add(reader.readLine());
+					}
+				}
+			}
+			schedules.put(student, schedule);
+		}
+		return schedule;
+	}
+
+	/**
+	 * Returns the path of a numbered snapshot or index file.
+	 * @param number the snapshot's number
+	 * @param suffix SNAPSHOT_SUFFIX or INDEX_SUFFIX
+	 * @return the file's path
+	 */
+	private Path snapshotFile(long number, String suffix) {
+		return dir.resolve(SNAPSHOT_PREFIX + number + suffix);
+	}
+
+	/**
+	 * Reads the index of the snapshot named by the manifest, if there is one, and
+	 * deletes the files of any other snapshot left by an interrupted compaction.
+	 * @throws IOException if the index cannot be read
+	 */
+	private void readIndex() throws IOException {
+		Path manifest = dir.resolve(MANIFEST_FILE);
+		if (Files.exists(manifest)) {
+			generation = Long.parseLong(Files.readString(manifest, StandardCharsets.UTF_8).trim());
+			try (BufferedReader reader = Files.newBufferedReader(snapshotFile(generation, INDEX_SUFFIX), StandardCharsets.UTF_8)) {
+				snapshotSeq = Long.parseLong(reader.readLine());
+				for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+					int comma = line.lastIndexOf(',');
+					index.put(line.substring(0, comma), Long.parseLong(line.substring(comma + 1)));
+				}
+			}
+		}
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, SNAPSHOT_PREFIX + "*")) {
+			for (Path file : files) {
+				String name = file.getFileName().toString();
+				if (!name.equals(MANIFEST_FILE) && !file.equals(snapshotFile(generation, SNAPSHOT_SUFFIX))
+						&& !file.equals(snapshotFile(generation, INDEX_SUFFIX))) {
+					Files.delete(file);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Replays the log records written after the snapshot. Replay stops at the first
+	 * incomplete or corrupt record, and the log is truncated there. A record with a
+	 * valid checksum that cannot be applied, such as a remove past the end of a
+	 * schedule, is skipped, so the committed records after it are kept.
+	 * @throws IOException if the log cannot be read
+	 */
+	private void replayLog() throws IOException {
+		byte[] bytes = Files.readAllBytes(dir.resolve(LOG_FILE));
+		long seq = snapshotSeq;
+		int start = 0;
+		while (start < bytes.length) {
+			int end = start;
+			while (end < bytes.length && bytes[end] != '\n') {
+				end++;
+			}
+			if (end == bytes.length) {
+				break;
+			}
+			String[] fields = new String(bytes, start, end - start, StandardCharsets.UTF_8).split(",", LOG_FIELDS);
+			long recordSeq;
+			try {
+				String body = fields[1] + "," + fields[2] + "," + fields[3] + "," + fields[4];
+				if (Long.parseLong(fields[0], HEX) != checksum(body)) {
+					break;
+				}
+				recordSeq = Long.parseLong(fields[1]);
+			} catch (RuntimeException e) {
+				break;
+			}
+			if (recordSeq > snapshotSeq) {
+				try {
+					apply(loadSchedule(fields[3]), fields[2], fields[4]);
+				} catch (RuntimeException e) {
+					// The record is intact but does not apply, skip it
+				}
+			}
+			seq = Math.max(seq, recordSeq);
+			start = end + 1;
+		}
+		log.truncate(start);
+		log.force(false);
+		appendedSeq = seq;
+		durableSeq = seq;
+	}
+
+	/**
+	 * Writes every schedule into a new snapshot and empties the log. Pending records
+	 * are made durable first, so the snapshot holds exactly the records up to the
+	 * sequence its index records and later records are replayed from the log. The
+	 * snapshot and its index are written under a new number and forced to disk, and
+	 * the manifest is then renamed over the old one. The directory is forced before
+	 * the log is truncated and the old snapshot deleted, so a crash at any point
+	 * recovers to the same schedules from either the old snapshot and the whole log
+	 * or the new snapshot and the records after it.
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	public void compact() throws IOException {
+		synchronized (flushLock) {
+			flush();
+			synchronized (this) {
+				long next = generation + 1;
+				HashMap<String, Long> nextIndex = new HashMap<String, Long>();
+				try (FileChannel out = FileChannel.open(snapshotFile(next, SNAPSHOT_SUFFIX), StandardOpenOption.CREATE,
+						StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+					for (String student : index.keySet()) {
+						writeSchedule(out, student, loadSchedule(student), nextIndex);
+					}
+					for (String student : schedules.keySet()) {
+						if (!index.containsKey(student)) {
+							writeSchedule(out, student, schedules.get(student), nextIndex);
+						}
+					}
+					out.force(true);
+				}
+				StringBuilder lines = new StringBuilder().append(durableSeq).append('\n');
+				for (String student : nextIndex.keySet()) {
+					lines.append(student).append(',').append(nextIndex.get(student)).append('\n');
+				}
+				writeDurably(snapshotFile(next, INDEX_SUFFIX), lines.toString());
+				Path manifestTemp = dir.resolve(MANIFEST_FILE + TEMP_SUFFIX);
+				writeDurably(manifestTemp, next + "\n");
+				Files.move(manifestTemp, dir.resolve(MANIFEST_FILE), StandardCopyOption.ATOMIC_MOVE,
+						StandardCopyOption.REPLACE_EXISTING);
+				ActivityRecordIO.syncDirectory(dir);
+
+				log.truncate(0);
+				log.force(true);
+				Files.deleteIfExists(snapshotFile(generation, SNAPSHOT_SUFFIX));
+				Files.deleteIfExists(snapshotFile(generation, INDEX_SUFFIX));
+				generation = next;
+				index = nextIndex;
+				snapshotSeq = durableSeq;
+				schedules.clear();
+			}
+		}
+	}
+
+	/**
+	 * Writes text to a file and forces it to disk.
+	 * @param file the file to write
+	 * @param text the text to write
+	 * @throws IOException if the file cannot be written
+	 */
+	private static void writeDurably(Path file, String text) throws IOException {
+		try (FileChannel out = FileChannel.open(file, StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+			while (buffer.hasRemaining()) {
+				out.write(buffer);
+			}
+			out.force(true);
+		}
+	}
+
+	/**
+	 * Writes one student's schedule to a snapshot and records its offset.
+	 * @param out the snapshot being written
+	 * @param student the student's id
+	 * @param schedule the student's schedule
+	 * @param nextIndex the index being built
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	private static void writeSchedule(FileChannel out, String student, List<String> schedule,
+			HashMap<String, Long> nextIndex) throws IOException {
+		if (schedule.isEmpty()) {
+			return;
+		}
+		nextIndex.put(student, out.position());
+		StringBuilder lines = new StringBuilder(student).append(',').append(schedule.size()).append('\n');
+		for (String record : schedule) {
+			lines.append(record).append('\n');
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+		while (buffer.hasRemaining()) {
+			out.write(buffer);
+		}
+	}
+
+	/**
+	 * Computes the checksum of a log record body.
+	 * @param body the record body
+	 * @return the CRC-32 of the body
+	 */
+	private static long checksum(String body) {
+		CRC32 crc = new CRC32();
+		crc.update(body.getBytes(StandardCharsets.UTF_8));
+		return crc.getValue();
+	}
+
+	/**
+	 * Closes the log.
+	 * @throws IOException if the log cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		synchronized (flushLock) {
+			log.close();
+		}
+	}
+
+}
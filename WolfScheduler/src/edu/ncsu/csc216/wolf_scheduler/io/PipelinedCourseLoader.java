@@ -0,0 +1,196 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Loads course records in a three stage pipeline so that reading slow storage
+ * overlaps with parsing.
+ * <ol>
+ * <li>A single reader thread reads the input in batches of lines and hands each
+ * batch to the parser pool.</li>
+ * <li>A pool of parser threads validates each line and builds its Course, exactly
+ * as CourseRecordIO does.</li>
+ * <li>The calling thread merges the parsed batches in input order, keeping the
+ * first Course with each name and section.</li>
+ * </ol>
+ * The reader passes the merger a Future for each batch through a bounded queue, so
+ * the reader blocks once that many batches are waiting and memory stays bounded on
+ * any size input. The result is the same list readCourseRecords() returns.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class PipelinedCourseLoader {
+
+	/** Marks the end of the batches */
+	private static final Future<Course[]> END = CompletableFuture.completedFuture(new Course[0]);
+
+	/** Number of parser threads */
+	private final int workers;
+	/** Number of lines in a batch */
+	private final int batchSize;
+	/** Number of batches that may wait for the merger */
+	private final int queueCapacity;
+
+	/**
+	 * Constructs a PipelinedCourseLoader.
+	 * @param workers number of parser threads
+	 * @param batchSize number of lines in a batch
+	 * @param queueCapacity number of batches that may wait for the merger
+	 * @throws IllegalArgumentException if a count is not positive
+	 */
+	public PipelinedCourseLoader(int workers, int batchSize, int queueCapacity) {
+		if (workers < 1 || batchSize < 1 || queueCapacity < 1) {
+			throw new IllegalArgumentException("Invalid loader.");
+		}
+		this.workers = workers;
+		this.batchSize = batchSize;
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Loads course records from a file, decompressing it if it is gzip compressed.
+	 * @param path file to read Course records from
+	 * @return a list of valid Courses
+	 * @throws IOException if the file cannot be found or read
+	 */
+	public ArrayList<Course> load(Path path) throws IOException {
+		try (InputStream in = Files.newInputStream(path)) {
+			return load(CourseRecordIO.openReader(in));
+		}
+	}
+
+	/**
+	 * Loads course records from a Reader. Any invalid Courses are ignored, and if more
+	 * than one Course has the same name and section only the first is kept. The
+	 * Reader is not closed.
+	 * @param in Reader to read Course records from
+	 * @return a list of valid Courses in input order
+	 * @throws IOException if the Reader cannot be read
+	 * @throws RuntimeException if the Reader fails with one, rethrown from the reader thread
+	 */
+	public ArrayList<Course> load(Reader in) throws IOException {
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService parsers = Executors.newFixedThreadPool(workers, r -> {
+			Thread t = new Thread(r, "course-parser-" + threadCount.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		});
+		ArrayBlockingQueue<Future<Course[]>> batches = new ArrayBlockingQueue<Future<Course[]>>(queueCapacity);
+		AtomicReference<Throwable> readError = new AtomicReference<Throwable>();
+		Thread reader = new Thread(() -> readBatches(in, parsers, batches, readError), "course-reader");
+		reader.setDaemon(true);
+		reader.start();
+
+		ArrayList<Course> courses = new ArrayList<Course>();
+		HashSet<String> keys = new HashSet<String>();
+		try {
+			for (Future<Course[]> batch = batches.take(); batch != END; batch = batches.take()) {
+				for (Course c : batch.get()) {
+					if (c != null && keys.add(c.getName() + "," + c.getSection())) {
+						courses.add(c);
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while loading courses.");
+		} catch (ExecutionException e) {
+			throw new IOException(e.getCause());
+		} finally {
+			reader.interrupt();
+			parsers.shutdownNow();
+		}
+		Throwable failure = readError.get();
+		if (failure instanceof IOException) {
+			throw (IOException) failure;
+		} else if (failure instanceof RuntimeException) {
+			throw (RuntimeException) failure;
+		} else if (failure instanceof Error) {
+			throw (Error) failure;
+		}
+		return courses;
+	}
+
+	/**
+	 * Reads the input in batches of lines, submits each batch to the parsers, and
+	 * queues its Future for the merger. The queue is ended from a finally block once
+	 * the input is read or reading fails for any reason, so the merger never waits
+	 * on a reader that has died. A failure is recorded for the merger to rethrow.
+	 * @param in the input
+	 * @param parsers the parser pool
+	 * @param batches queue of parsed batches for the merger
+	 * @param readError where a read failure is recorded
+	 */
+	private void readBatches(Reader in, ExecutorService parsers, ArrayBlockingQueue<Future<Course[]>> batches,
+			AtomicReference<Throwable> readError) {
+		boolean stopped = false;
+		try {
+			BufferedReader reader = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in);
+			String[] lines = new String[batchSize];
+			int size = 0;
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				lines[size++] = line;
+				if (size == batchSize) {
+					String[] full = lines.clone();
+					batches.put(parsers.submit(() -> parseBatch(full)));
+					size = 0;
+				}
+			}
+			if (size > 0) {
+				String[] last = Arrays.copyOf(lines, size);
+				batches.put(parsers.submit(() -> parseBatch(last)));
+			}
+		} catch (InterruptedException | RejectedExecutionException e) {
+			// The merger has stopped
+			stopped = true;
+		} catch (IOException | RuntimeException | Error e) {
+			readError.set(e);
+		} finally {
+			if (!stopped) {
+				try {
+					batches.put(END);
+				} catch (InterruptedException e) {
+					// The merger has stopped
+				}
+			}
+		}
+	}
+
+	/**
+	 * Parses a batch of lines.
+	 * @param lines the lines to parse
+	 * @return the Course for each line, or null where the line is invalid
+	 */
+	private static Course[] parseBatch(String[] lines) {
+		Course[] parsed = new Course[lines.length];
+		for (int i = 0; i < lines.length; i++) {
+			try {
+				parsed[i] = CourseRecordIO.readCourse(lines[i]);
+			} catch (IllegalArgumentException e) {
+				// The line is invalid, skip it
+			}
+		}
+		return parsed;
+	}
+
+}
@@ -0,0 +1,206 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Keeps recently used CourseCatalogs in memory so that switching between catalog
+ * files, such as the past, current, and next terms, does not parse a file again.
+ * Catalogs are keyed by file and by a checksum of the file's contents, so a file
+ * that has changed is parsed again and replaces its old catalog.
+ *
+ * The cache holds catalogs up to a heap budget, estimated from the size of each
+ * catalog's Courses. When adding a catalog goes over the budget the least recently
+ * used catalogs are evicted. A catalog larger than the whole budget is returned but
+ * not kept. Counts of hits, misses, and evictions are kept for monitoring.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class CatalogCache {
+
+	/** Estimated bytes of a Course apart from its strings */
+	private static final long COURSE_BYTES = 160;
+	/** Estimated bytes of a String apart from its characters */
+	private static final long STRING_BYTES = 40;
+	/** Size of the buffer used to checksum a file */
+	private static final int CHECKSUM_BUFFER = 64 * 1024;
+
+	/** Most estimated bytes of catalogs to keep */
+	private final long heapBudget;
+	/** Cached catalogs by file, least recently used first */
+	private final LinkedHashMap<Path, Entry> entries;
+	/** Estimated bytes of every cached catalog */
+	private long heapUsed;
+	/** Number of lookups answered from the cache */
+	private long hits;
+	/** Number of lookups that parsed the file */
+	private long misses;
+	/** Number of catalogs evicted to stay within the budget */
+	private long evictions;
+
+	/**
+	 * A cached catalog with the checksum of the file it was parsed from.
+	 */
+	private static class Entry {
+		/** Checksum of the file's contents */
+		private final long checksum;
+		/** The catalog */
+		private final CourseCatalog catalog;
+		/** Estimated bytes of the catalog */
+		private final long bytes;
+
+		/**
+		 * Constructs an Entry.
+		 * @param checksum checksum of the file's contents
+		 * @param catalog the catalog
+		 * @param bytes estimated bytes of the catalog
+		 */
+		Entry(long checksum, CourseCatalog catalog, long bytes) {
+			this.checksum = checksum;
+			this.catalog = catalog;
+			this.bytes = bytes;
+		}
+	}
+
+	/**
+	 * Constructs a CatalogCache.
+	 * @param heapBudget most estimated bytes of catalogs to keep
+	 * @throws IllegalArgumentException if heapBudget is negative
+	 */
+	public CatalogCache(long heapBudget) {
+		if (heapBudget < 0) {
+			throw new IllegalArgumentException("Invalid budget.");
+		}
+		this.heapBudget = heapBudget;
+		this.entries = new LinkedHashMap<Path, Entry>(16, 0.75f, true);
+	}
+
+	/**
+	 * Returns the catalog for a file, parsing it only if it is not cached or its
+	 * contents have changed since it was cached.
+	 * @param fileName the file containing course records
+	 * @return the file's catalog
+	 * @throws IllegalArgumentException if the file cannot be read
+	 */
+	public CourseCatalog getCatalog(String fileName) {
+		Path path = Paths.get(fileName).toAbsolutePath().normalize();
+		long checksum = checksum(path);
+		synchronized (this) {
+			Entry entry = entries.get(path);
+			if (entry != null && entry.checksum == checksum) {
+				hits++;
+				return entry.catalog;
+			}
+			misses++;
+		}
+
+		CourseCatalog catalog = new CourseCatalog(fileName);
+		long bytes = estimateBytes(catalog);
+		synchronized (this) {
+			Entry entry = entries.get(path);
+			if (entry != null && entry.checksum == checksum) {
+				return entry.catalog;
+			}
+			if (entry != null) {
+				entries.remove(path);
+				heapUsed -= entry.bytes;
+			}
+			if (bytes > heapBudget) {
+				return catalog;
+			}
+			entries.put(path, new Entry(checksum, catalog, bytes));
+			heapUsed += bytes;
+			Iterator<Map.Entry<Path, Entry>> eldest = entries.entrySet().iterator();
+			while (heapUsed > heapBudget) {
+				Entry evicted = eldest.next().getValue();
+				eldest.remove();
+				heapUsed -= evicted.bytes;
+				evictions++;
+			}
+			return catalog;
+		}
+	}
+
+	/**
+	 * Computes the CRC-32 of a file's contents.
+	 * @param path the file
+	 * @return the checksum
+	 * @throws IllegalArgumentException if the file cannot be read
+	 */
+	private static long checksum(Path path) {
+		CRC32 crc = new CRC32();
+		byte[] buffer = new byte[CHECKSUM_BUFFER];
+		try (InputStream in = Files.newInputStream(path)) {
+			for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+				crc.update(buffer, 0, read);
+			}
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Cannot find file.");
+		}
+		return crc.getValue();
+	}
+
+	/**
+	 * Estimates the heap used by a catalog's Courses.
+	 * @param catalog the catalog
+	 * @return estimated bytes
+	 */
+	static long estimateBytes(CourseCatalog catalog) {
+		long bytes = 0;
+		for (Course c : catalog.getCourses()) {
+			bytes += COURSE_BYTES + 5 * STRING_BYTES + c.getName().length() + c.getTitle().length()
+					+ c.getSection().length() + c.getInstructorId().length() + c.getMeetingDays().length();
+		}
+		return bytes;
+	}
+
+	/**
+	 * Returns the number of cached catalogs.
+	 * @return the number of catalogs
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Returns the estimated bytes of every cached catalog.
+	 * @return estimated bytes in use
+	 */
+	public synchronized long getHeapUsed() {
+		return heapUsed;
+	}
+
+	/**
+	 * Returns the number of lookups answered from the cache.
+	 * @return the hit count
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of lookups that parsed the file.
+	 * @return the miss count
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the number of catalogs evicted to stay within the budget.
+	 * @return the eviction count
+	 */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+}
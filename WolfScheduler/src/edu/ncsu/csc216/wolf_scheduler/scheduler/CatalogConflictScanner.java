@@ -0,0 +1,182 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.Arrays;
+import java.util.WeakHashMap;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.ConflictException;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Finds the sections of a CourseCatalog that conflict with an activity by scanning
+ * the catalog's meeting times as columns. Each section's day mask, start minute, and
+ * end minute, taken from its time key, are kept in three parallel int arrays, so a
+ * scan reads them in order without visiting any Course.
+ *
+ * The scan decides each section with integer arithmetic on sign bits rather than
+ * branches, so its running time does not depend on how many sections conflict. The
+ * few sections the columns cannot decide, arranged sections and sections whose days
+ * hold a character that is not a week day, are kept aside and checked with
+ * Activity.checkConflict(). The scanner keeps no other Course. The scanner for a
+ * catalog is built the first time it is used and shared until the catalog is no
+ * longer used.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class CatalogConflictScanner {
+
+	/** Scanner of each catalog scanned so far */
+	private static final WeakHashMap<CourseCatalog, CatalogConflictScanner> SCANNERS = new WeakHashMap<CourseCatalog, CatalogConflictScanner>();
+
+	/** Day mask of each row, 0 for rows the columns cannot decide and missing rows */
+	private final int[] days;
+	/** Start minute of each row */
+	private final int[] starts;
+	/** End minute of each row */
+	private final int[] ends;
+	/** Rows the columns cannot decide, in catalog order */
+	private final int[] otherRows;
+	/** Course of each row in otherRows */
+	private final Course[] others;
+
+	/**
+	 * Builds the columns for a catalog.
+	 * @param catalog the catalog to scan
+	 */
+	private CatalogConflictScanner(CourseCatalog catalog) {
+		int rows = catalog.size();
+		this.days = new int[rows];
+		this.starts = new int[rows];
+		this.ends = new int[rows];
+		int[] otherRows = new int[rows];
+		Course[] others = new Course[rows];
+		int size = 0;
+		for (int row = 0; row < rows; row++) {
+			Course c = catalog.getCourse(row);
+			if (c == null) {
+				continue;
+			}
+			long key = c.getTimeKey();
+			if (Activity.hasUnknownDays(key) || Activity.getDayMask(key) == 0) {
+				otherRows[size] = row;
+				others[size++] = c;
+			} else {
+				days[row] = Activity.getDayMask(key);
+				starts[row] = Activity.getStartMinute(key);
+				ends[row] = Activity.getEndMinute(key);
+			}
+		}
+		this.otherRows = Arrays.copyOf(otherRows, size);
+		this.others = Arrays.copyOf(others, size);
+	}
+
+	/**
+	 * Returns the conflict scanner for a catalog, building it on first use.
+	 * @param catalog the catalog
+	 * @return the catalog's conflict scanner
+	 */
+	public static CatalogConflictScanner forCatalog(CourseCatalog catalog) {
+		synchronized (SCANNERS) {
+			CatalogConflictScanner scanner = SCANNERS.get(catalog);
+			if (scanner == null) {
+				scanner = new CatalogConflictScanner(catalog);
+				SCANNERS.put(catalog, scanner);
+			}
+			return scanner;
+		}
+	}
+
+	/**
+	 * Returns whether a row conflicts with a query, as 1 or 0. Each comparison is
+	 * negative exactly when its condition holds, so the sign bit of their AND is set
+	 * only when the row shares a day and the times overlap, counting touching end
+	 * points as overlap just as Activity.checkConflict() does.
+	 * @param row the row
+	 * @param mask day mask of the query
+	 * @param start start minute of the query
+	 * @param end end minute of the query
+	 * @return 1 if the row conflicts, otherwise 0
+	 */
+	private int hit(int row, int mask, int start, int end) {
+		return (-(days[row] & mask) & (start - ends[row] - 1) & (starts[row] - end - 1)) >>> (Integer.SIZE - 1);
+	}
+
+	/**
+	 * Counts the rows in the columns that conflict with a time key. A key with
+	 * unknown days is scanned with the mask of its week days, since no other
+	 * character of its days can match a row in the columns.
+	 * @param key the time key of the query
+	 * @return the number of conflicting rows in the columns
+	 */
+	private int countColumns(long key) {
+		int mask = Activity.getDayMask(key);
+		int start = Activity.getStartMinute(key);
+		int end = Activity.getEndMinute(key);
+		int count = 0;
+		for (int row = 0; row < days.length; row++) {
+			count += hit(row, mask, start, end);
+		}
+		return count;
+	}
+
+	/**
+	 * Finds the rows kept aside from the columns that conflict with an activity, by
+	 * calling Activity.checkConflict() on each one.
+	 * @param activity the activity to check
+	 * @return the conflicting rows in catalog order
+	 */
+	private int[] findOthers(Activity activity) {
+		int[] found = new int[others.length];
+		int size = 0;
+		for (int i = 0; i < others.length; i++) {
+			try {
+				activity.checkConflict(others[i]);
+			} catch (ConflictException e) {
+				found[size++] = otherRows[i];
+			}
+		}
+		return Arrays.copyOf(found, size);
+	}
+
+	/**
+	 * Counts the catalog sections that conflict with an activity.
+	 * @param activity the activity to check
+	 * @return the number of conflicting sections
+	 */
+	public int countConflicts(Activity activity) {
+		return countColumns(activity.getTimeKey()) + findOthers(activity).length;
+	}
+
+	/**
+	 * Finds the catalog sections that conflict with an activity. The rows in the
+	 * columns are counted first and then written into an array of exactly that
+	 * size, each row stored unconditionally and kept only if it conflicts. Any
+	 * conflicting rows kept aside are then merged in.
+	 * @param activity the activity to check
+	 * @return the rows of the conflicting sections in catalog order
+	 */
+	public int[] findConflicts(Activity activity) {
+		long key = activity.getTimeKey();
+		int mask = Activity.getDayMask(key);
+		int start = Activity.getStartMinute(key);
+		int end = Activity.getEndMinute(key);
+		int[] found = new int[countColumns(key)];
+		int size = 0;
+		for (int row = 0; size < found.length; row++) {
+			found[size] = row;
+			size += hit(row, mask, start, end);
+		}
+		int[] other = findOthers(activity);
+		if (other.length == 0) {
+			return found;
+		}
+		int[] merged = new int[found.length + other.length];
+		int i = 0;
+		int j = 0;
+		for (int k = 0; k < merged.length; k++) {
+			merged[k] = j == other.length || (i < found.length && found[i] < other[j]) ? found[i++] : other[j++];
+		}
+		return merged;
+	}
+
+}
@@ -0,0 +1,175 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * A search index over the rows of a CourseCatalog. Course names are kept in a prefix
+ * trie, so a query like "CSC 2" finds every section whose name starts with it. Words
+ * of course titles and instructor ids are kept in an inverted index from each word
+ * to the rows that contain it, with the words sorted so that a partly typed word
+ * matches every word it begins.
+ *
+ * A row matches a query if its name starts with the query, or if every word of the
+ * query begins some word of its title or instructor id. Matching ignores case, and
+ * results are in catalog order. The index for a catalog is built the first time it
+ * is searched and shared until the catalog is no longer used.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class CatalogSearchIndex {
+
+	/** Index of each catalog searched so far */
+	private static final WeakHashMap<CourseCatalog, CatalogSearchIndex> INDEXES = new WeakHashMap<CourseCatalog, CatalogSearchIndex>();
+
+	/** Number of rows in the catalog */
+	private final int rows;
+	/** Root of the name trie */
+	private final TrieNode root;
+	/** Words of titles and instructor ids in sorted order */
+	private final String[] words;
+	/** Rows containing each word, in the same order as words */
+	private final int[][] wordRows;
+
+	/**
+	 * A node of the name trie.
+	 */
+	private static class TrieNode {
+		/** Child nodes by next character */
+		private final HashMap<Character, TrieNode> children = new HashMap<Character, TrieNode>();
+		/** Rows whose name starts with this node's prefix, in catalog order */
+		private int[] rows = new int[2];
+		/** Number of rows */
+		private int size;
+
+		/**
+		 * Adds a row under this node.
+		 * @param row the row
+		 */
+		private void add(int row) {
+			if (size == rows.length) {
+				rows = Arrays.copyOf(rows, size * 2);
+			}
+			rows[size++] = row;
+		}
+	}
+
+	/**
+	 * Builds the search index for a catalog.
+	 * @param catalog the catalog to index
+	 */
+	private CatalogSearchIndex(CourseCatalog catalog) {
+		this.rows = catalog.size();
+		this.root = new TrieNode();
+		TreeMap<String, ArrayList<Integer>> index = new TreeMap<String, ArrayList<Integer>>();
+		for (int row = 0; row < rows; row++) {
+			Course c = catalog.getCourse(row);
+			if (c == null) {
+				continue;
+			}
+			TrieNode node = root;
+			node.add(row);
+			for (char ch : normalize(c.getName()).toCharArray()) {
+				node = node.children.computeIfAbsent(ch, k -> new TrieNode());
+				node.add(row);
+			}
+			for (String word : split(c.getTitle() + " " + c.getInstructorId())) {
+				ArrayList<Integer> wordList = index.computeIfAbsent(word, k -> new ArrayList<Integer>());
+				if (wordList.isEmpty() || wordList.get(wordList.size() - 1) != row) {
+					wordList.add(row);
+				}
+			}
+		}
+		this.words = index.keySet().toArray(new String[index.size()]);
+		this.wordRows = new int[words.length][];
+		int i = 0;
+		for (Map.Entry<String, ArrayList<Integer>> entry : index.entrySet()) {
+			wordRows[i++] = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+		}
+	}
+
+	/**
+	 * Returns the search index for a catalog, building it on first use.
+	 * @param catalog the catalog
+	 * @return the catalog's search index
+	 */
+	public static CatalogSearchIndex forCatalog(CourseCatalog catalog) {
+		synchronized (INDEXES) {
+			CatalogSearchIndex index = INDEXES.get(catalog);
+			if (index == null) {
+				index = new CatalogSearchIndex(catalog);
+				INDEXES.put(catalog, index);
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * Converts text to the form used for matching.
+	 * @param text the text
+	 * @return the text in lower case
+	 */
+	private static String normalize(String text) {
+		return text.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Splits text into its lower case words.
+	 * @param text the text
+	 * @return the words of the text
+	 */
+	private static String[] split(String text) {
+		String trimmed = normalize(text).replaceAll("[^\\p{Alnum}]+", " ").trim();
+		return trimmed.isEmpty() ? new String[0] : trimmed.split(" ");
+	}
+
+	/**
+	 * Returns the rows that match a query, in catalog order. An empty query matches
+	 * every row.
+	 * @param query the query
+	 * @return the matching rows
+	 */
+	public int[] search(String query) {
+		String prefix = normalize(query == null ? "" : query.trim());
+		BitSet matches = new BitSet(rows);
+		TrieNode node = root;
+		for (int i = 0; i < prefix.length() && node != null; i++) {
+			node = node.children.get(prefix.charAt(i));
+		}
+		if (node != null) {
+			for (int i = 0; i < node.size; i++) {
+				matches.set(node.rows[i]);
+			}
+		}
+
+		String[] terms = split(prefix);
+		if (terms.length > 0) {
+			BitSet all = null;
+			for (String term : terms) {
+				BitSet termRows = new BitSet(rows);
+				int first = Arrays.binarySearch(words, term);
+				for (int w = first < 0 ? -first - 1 : first; w < words.length && words[w].startsWith(term); w++) {
+					for (int row : wordRows[w]) {
+						termRows.set(row);
+					}
+				}
+				if (all == null) {
+					all = termRows;
+				} else {
+					all.and(termRows);
+				}
+			}
+			matches.or(all);
+		}
+		return matches.stream().toArray();
+	}
+
+}
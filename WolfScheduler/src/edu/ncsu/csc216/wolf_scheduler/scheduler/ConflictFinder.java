@@ -0,0 +1,177 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Finds every pair of conflicting activities in a list without comparing each
+ * activity against every other one. Activities are grouped by meeting day, sorted
+ * by start time, and swept once per day while keeping the activities that are still
+ * in session. The work is done on primitive arrays of time keys and packed entries,
+ * with no boxed indexes. A conflict found here is exactly a conflict reported by
+ * Activity.checkConflict(), so arranged activities never conflict.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class ConflictFinder {
+
+	/** Meeting day used by arranged activities, which never conflict */
+	private static final char ARRANGED = 'A';
+	/** Shift of the meeting day in a sweep entry */
+	private static final int DAY_SHIFT = 48;
+	/** Shift of the start minute in a sweep entry */
+	private static final int START_SHIFT = 32;
+	/** Number of columns in an instructor conflict row */
+	private static final int INSTRUCTOR_CONFLICT_COLUMNS = 5;
+
+	/**
+	 * Finds every conflicting pair of activities in the given list. Each pair is
+	 * reported once as the two indexes into the list, smaller index first, and pairs
+	 * are ordered by those indexes. Runs in O(n log n) plus the number of pairs found.
+	 * @param activities the activities to check against each other
+	 * @return a list of index pairs of conflicting activities
+	 */
+	public static List<int[]> findConflictingPairs(List<? extends Activity> activities) {
+		long[] keys = new long[activities.size()];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = activities.get(i).getTimeKey();
+		}
+		StringBuilder otherDays = new StringBuilder();
+		long[] entries = new long[keys.length * 2];
+		int size = 0;
+		for (int i = 0; i < keys.length; i++) {
+			long start = (long) Activity.getStartMinute(keys[i]) << START_SHIFT;
+			if (Activity.hasUnknownDays(keys[i])) {
+				String meetingDays = activities.get(i).getMeetingDays();
+				for (int j = 0; j < meetingDays.length(); j++) {
+					char day = meetingDays.charAt(j);
+					if (day == ARRANGED) {
+						continue;
+					}
+					int dayIndex = Activity.WEEK_DAYS.indexOf(day);
+					if (dayIndex < 0) {
+						dayIndex = otherDays.indexOf("" + day);
+						if (dayIndex < 0) {
+							dayIndex = otherDays.length();
+							otherDays.append(day);
+						}
+						dayIndex += Activity.WEEK_DAYS.length();
+					}
+					entries = append(entries, size++, (long) dayIndex << DAY_SHIFT | start | i);
+				}
+			} else {
+				int mask = Activity.getDayMask(keys[i]);
+				for (int day = 0; mask != 0; day++, mask >>>= 1) {
+					if ((mask & 1) != 0) {
+						entries = append(entries, size++, (long) day << DAY_SHIFT | start | i);
+					}
+				}
+			}
+		}
+		Arrays.sort(entries, 0, size);
+
+		long[] pairs = sweep(keys, entries, size);
+		ArrayList<int[]> found = new ArrayList<int[]>();
+		for (int i = 0; i < pairs.length; i++) {
+			if (i == 0 || pairs[i] != pairs[i - 1]) {
+				found.add(new int[] {(int) (pairs[i] >>> Integer.SIZE), (int) pairs[i]});
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Stores a value in a growable array, doubling the array if it is full.
+	 * @param values the array
+	 * @param idx position to store at, at most the array's length
+	 * @param value the value to store
+	 * @return the array holding the value
+	 */
+	private static long[] append(long[] values, int idx, long value) {
+		if (idx == values.length) {
+			values = Arrays.copyOf(values, Math.max(values.length * 2, 8));
+		}
+		values[idx] = value;
+		return values;
+	}
+
+	/**
+	 * Sweeps the activities in day and start time order. Each entry packs a meeting
+	 * day, the activity's start minute, and its index, so one primitive sort puts the
+	 * entries of each day together in start time order. Every activity still in
+	 * session when another one starts on the same day conflicts with it, since both
+	 * Activity.checkConflict() and the sweep treat touching end points as a conflict.
+	 * Times are read from the activities' time keys rather than the activities.
+	 * @param keys time key of every activity being checked
+	 * @param entries the sorted day, start, and index entries
+	 * @param size number of entries
+	 * @return each conflicting pair packed as the smaller index above the larger,
+	 *         sorted, with a pair repeated once for each day it conflicts on
+	 */
+	private static long[] sweep(long[] keys, long[] entries, int size) {
+		int[] inSession = new int[keys.length];
+		int sessions = 0;
+		long[] pairs = new long[keys.length];
+		int found = 0;
+		long day = -1;
+		for (int e = 0; e < size; e++) {
+			int idx = (int) entries[e];
+			int startMinute = Activity.getStartMinute(keys[idx]);
+			if (entries[e] >>> DAY_SHIFT != day) {
+				day = entries[e] >>> DAY_SHIFT;
+				sessions = 0;
+			}
+			int kept = 0;
+			for (int s = 0; s < sessions; s++) {
+				int other = inSession[s];
+				if (Activity.getEndMinute(keys[other]) >= startMinute) {
+					inSession[kept++] = other;
+					pairs = append(pairs, found++, (long) Math.min(idx, other) << Integer.SIZE | Math.max(idx, other));
+				}
+			}
+			sessions = kept;
+			inSession[sessions++] = idx;
+		}
+		Arrays.sort(pairs, 0, found);
+		return Arrays.copyOf(pairs, found);
+	}
+
+	/**
+	 * Finds every pair of sections in a catalog that the same instructor teaches at
+	 * overlapping times. Each row contains the instructor id followed by the name and
+	 * section of the two conflicting Courses, in catalog order.
+	 * @param catalog the Courses to check
+	 * @return a 2D array with a row for each double-booked pair of sections
+	 */
+	public static String[][] findInstructorConflicts(List<Course> catalog) {
+		HashMap<String, ArrayList<Course>> byInstructor = new HashMap<String, ArrayList<Course>>();
+		ArrayList<String> instructors = new ArrayList<String>();
+		for (Course c : catalog) {
+			ArrayList<Course> taught = byInstructor.get(c.getInstructorId());
+			if (taught == null) {
+				taught = new ArrayList<Course>();
+				byInstructor.put(c.getInstructorId(), taught);
+				instructors.add(c.getInstructorId());
+			}
+			taught.add(c);
+		}
+
+		ArrayList<String[]> rows = new ArrayList<String[]>();
+		for (String instructorId : instructors) {
+			ArrayList<Course> taught = byInstructor.get(instructorId);
+			for (int[] pair : findConflictingPairs(taught)) {
+				Course first = taught.get(pair[0]);
+				Course second = taught.get(pair[1]);
+				rows.add(new String[] {instructorId, first.getName(), first.getSection(),
+						second.getName(), second.getSection()});
+			}
+		}
+		return rows.toArray(new String[rows.size()][INSTRUCTOR_CONFLICT_COLUMNS]);
+	}
+
+}
@@ -0,0 +1,277 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseChange;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+
+/**
+ * An immutable catalog of Courses that can be shared by many WolfScheduler
+ * sessions. The Courses are kept in catalog order along with an index on name and
+ * section. Nothing is changed after construction, so any number of threads may
+ * read the catalog at once without locking. The Courses in a catalog are shared
+ * and must not be modified through their setters.
+ *
+ * Every catalog is stamped with a version number when it is built. Versions only
+ * increase, so a newer catalog always has a larger version than an older one.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class CourseCatalog {
+
+	/** Source of catalog version numbers */
+	private static final AtomicLong VERSIONS = new AtomicLong();
+	/** Version number of the catalog */
+	private final long version;
+	/** Courses in catalog order */
+	private final Course[] courses;
+	/** Index of Courses by name and section */
+	private final HashMap<String, Course> index;
+
+	/**
+	 * Constructs a CourseCatalog from the Course records in a file.
+	 * @param fileName the file containing course records
+	 * @throws IllegalArgumentException if the file cannot be read
+	 */
+	public CourseCatalog(String fileName) {
+		this(readCourses(fileName));
+	}
+
+	/**
+	 * Constructs a CourseCatalog from a list of Courses. If more than one Course has
+	 * the same name and section only the first is kept.
+	 * @param courses the Courses in the catalog
+	 * @throws IllegalArgumentException if the list is null
+	 */
+	public CourseCatalog(List<Course> courses) {
+		if (courses == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		this.index = new HashMap<String, Course>(courses.size() * 2);
+		Course[] unique = new Course[courses.size()];
+		int size = 0;
+		for (Course c : courses) {
+			if (index.putIfAbsent(key(c.getName(), c.getSection()), c) == null) {
+				unique[size++] = c;
+			}
+		}
+		this.courses = Arrays.copyOf(unique, size);
+		this.version = VERSIONS.incrementAndGet();
+	}
+
+	/**
+	 * Constructs an empty CourseCatalog for subclasses that supply their Courses on
+	 * demand by overriding the accessors.
+	 */
+	protected CourseCatalog() {
+		this(new Course[0], new HashMap<String, Course>());
+	}
+
+	/**
+	 * Constructs a CourseCatalog from Courses and an index that are already built.
+	 * @param courses the Courses in catalog order
+	 * @param index index of the Courses by name and section
+	 */
+	private CourseCatalog(Course[] courses, HashMap<String, Course> index) {
+		this.courses = courses;
+		this.index = index;
+		this.version = VERSIONS.incrementAndGet();
+	}
+
+	/**
+	 * Reads the Courses for a catalog from a file.
+	 * @param fileName the file containing course records
+	 * @return the Courses read from the file
+	 * @throws IllegalArgumentException if the file cannot be read
+	 */
+	private static List<Course> readCourses(String fileName) {
+		try {
+			return CourseRecordIO.readCourseRecords(fileName);
+		} catch (Exception e) {
+			throw new IllegalArgumentException("Cannot find file.");
+		}
+	}
+
+	/**
+	 * Builds the index key for a name and section.
+	 * @param name name of the course
+	 * @param section the course's section
+	 * @return the index key
+	 */
+	private static String key(String name, String section) {
+		return name + "," + section;
+	}
+
+	/**
+	 * Builds the next version of the catalog by applying a list of changes in order.
+	 * Unchanged Courses and their seat counts are shared with this catalog, and the
+	 * index is copied and updated rather than rebuilt from every Course. A modified
+	 * section keeps its position, removed sections are dropped, and added sections
+	 * are appended. Adding a section that exists, or modifying or removing one that
+	 * does not, is ignored. This catalog is not changed.
+	 * @param changes the changes to apply
+	 * @return the new catalog
+	 */
+	public CourseCatalog applyChanges(List<CourseChange> changes) {
+		HashMap<String, Course> nextIndex = new HashMap<String, Course>(index);
+		IdentityHashMap<Course, Course> replaced = new IdentityHashMap<Course, Course>();
+		LinkedHashMap<String, Course> appended = new LinkedHashMap<String, Course>();
+		for (CourseChange change : changes) {
+			String key = key(change.getName(), change.getSection());
+			Course current = nextIndex.get(key);
+			Course next;
+			if (CourseChange.ADD.equals(change.getOperation())) {
+				next = current == null ? change.getCourse() : current;
+			} else if (CourseChange.MODIFY.equals(change.getOperation())) {
+				next = current == null ? null : change.getCourse();
+			} else {
+				next = null;
+			}
+			if (next == current) {
+				continue;
+			}
+			if (next == null) {
+				nextIndex.remove(key);
+			} else {
+				nextIndex.put(key, next);
+			}
+			Course base = index.get(key);
+			if (base != null) {
+				replaced.put(base, next);
+			} else if (next == null) {
+				appended.remove(key);
+			} else {
+				appended.put(key, next);
+			}
+		}
+
+		Course[] next = new Course[courses.length + appended.size()];
+		int size = 0;
+		for (Course c : courses) {
+			Course current = replaced.containsKey(c) ? replaced.get(c) : c;
+			if (current != null) {
+				next[size++] = current;
+			}
+		}
+		for (Course c : appended.values()) {
+			next[size++] = c;
+		}
+		return new CourseCatalog(size == next.length ? next : Arrays.copyOf(next, size), nextIndex);
+	}
+
+	/**
+	 * Builds a copy of this catalog that shares every unchanged Course with a
+	 * previous version, so those Courses keep their seat counts when a file is
+	 * parsed again. A Course is unchanged if the previous version has an equal
+	 * Course with the same name, section, and capacity. Changed Courses are this
+	 * catalog's own, and their seats move to them as sessions are rebound. The copy
+	 * is a new version; neither catalog is changed.
+	 * @param previous the version the copy replaces
+	 * @return the new catalog
+	 */
+	public CourseCatalog reuseUnchanged(CourseCatalog previous) {
+		HashMap<String, Course> nextIndex = new HashMap<String, Course>(index);
+		Course[] next = new Course[courses.length];
+		for (int i = 0; i < courses.length; i++) {
+			Course c = courses[i];
+			Course old = previous.getCourse(c.getName(), c.getSection());
+			if (old != null && old.equals(c) && old.getCapacity() == c.getCapacity()) {
+				c = old;
+				nextIndex.put(key(c.getName(), c.getSection()), c);
+			}
+			next[i] = c;
+		}
+		return new CourseCatalog(next, nextIndex);
+	}
+
+	/**
+	 * Returns the catalog's version number.
+	 * @return the version
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * Returns the number of Courses in the catalog.
+	 * @return the number of Courses
+	 */
+	public int size() {
+		return courses.length;
+	}
+
+	/**
+	 * Returns the Course at the given position in the catalog. A catalog that loads
+	 * its Courses on demand, such as LazyCourseCatalog, returns null for a position
+	 * whose record turns out to be invalid, so callers that walk positions must skip
+	 * null.
+	 * @param idx position of the Course
+	 * @return the Course at idx, or null if the catalog cannot supply one
+	 * @throws IndexOutOfBoundsException if idx is not in the catalog
+	 */
+	public Course getCourse(int idx) {
+		return courses[idx];
+	}
+
+	/**
+	 * Retrieves a Course by name and section.
+	 * @param name name of the course
+	 * @param section the course's section
+	 * @return the Course, or null if it is not in the catalog
+	 */
+	public Course getCourse(String name, String section) {
+		return index.get(key(name, section));
+	}
+
+	/**
+	 * Returns a read-only list of the Courses in catalog order.
+	 * @return the Courses in the catalog
+	 */
+	public List<Course> getCourses() {
+		return Collections.unmodifiableList(Arrays.asList(courses));
+	}
+
+	/**
+	 * Converts the catalog to a 2D array with as many rows as courses and columns
+	 * for the name, section, title, and meeting string.
+	 * @return catalogArray a 2D array representation of the catalog
+	 */
+	public String[][] getCourseCatalog() {
+		String[][] catalogArray = new String[courses.length][3];
+		for (int i = 0; i < courses.length; i++) {
+			catalogArray[i] = courses[i].getShortDisplayArray();
+		}
+		return catalogArray;
+	}
+
+	/**
+	 * Converts one page of the catalog to a 2D array with the same columns as
+	 * getCourseCatalog(). Only the Courses on the page are read, so a catalog that
+	 * loads its Courses on demand loads just those. A row that a catalog cannot
+	 * supply a Course for is null.
+	 * @param offset catalog position of the first row
+	 * @param limit most rows to return
+	 * @return a 2D array with a row for each catalog position on the page
+	 * @throws IllegalArgumentException if offset or limit is negative
+	 */
+	public String[][] getCourseCatalog(int offset, int limit) {
+		if (offset < 0 || limit < 0) {
+			throw new IllegalArgumentException("Invalid page.");
+		}
+		int rows = Math.max(0, Math.min(limit, size() - offset));
+		String[][] page = new String[rows][];
+		for (int i = 0; i < rows; i++) {
+			Course c = getCourse(offset + i);
+			page[i] = c == null ? null : c.getShortDisplayArray();
+		}
+		return page;
+	}
+
+}
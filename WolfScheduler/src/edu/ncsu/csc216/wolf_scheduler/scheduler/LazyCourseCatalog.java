@@ -0,0 +1,388 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseChange;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+
+/**
+ * A CourseCatalog that reads its Courses from the catalog file only when they are
+ * used. Loading scans the file once and keeps just the byte offset of each line and
+ * an index from name and section to row. A row is parsed and validated the first
+ * time it is looked up or displayed, and the most recently used Courses are kept in
+ * a cache of bounded size.
+ *
+ * A Course that falls out of the cache is still returned again for as long as any
+ * schedule refers to it, so the seats held on it are never lost. Rows keep the
+ * position of the first line with their name and section. If that line is invalid
+ * the next line with the same name and section is used, and a row with no valid
+ * line is returned as null. The file must not change while the catalog is open.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class LazyCourseCatalog extends CourseCatalog implements Closeable {
+
+	/** Fewest commas on a line that can hold a course record */
+	private static final int MIN_COMMAS = 5;
+	/** Size of the buffer used to scan the file */
+	private static final int SCAN_BUFFER = 64 * 1024;
+
+	/** The open catalog file */
+	private final FileChannel file;
+	/** Byte offset of each indexed line */
+	private final long[] lineStart;
+	/** Length in bytes of each indexed line */
+	private final int[] lineLength;
+	/** Next indexed line with the same name and section, or -1 */
+	private final int[] nextLine;
+	/** First indexed line of each row */
+	private final int[] rowLine;
+	/** Row of each name and section */
+	private final HashMap<String, Integer> rows;
+	/** Most recently used Courses by row */
+	private final LinkedHashMap<Integer, Course> cache;
+	/** Every Course materialized so far, by row, while something refers to it */
+	private final HashMap<Integer, RowReference> materialized;
+	/** Queue of materialized Courses that have been reclaimed */
+	private final ReferenceQueue<Course> reclaimed;
+	/** Rows with no valid line */
+	private final BitSet invalid;
+
+	/**
+	 * Constructs a LazyCourseCatalog by indexing the lines of a course record file.
+	 * @param fileName the file containing course records
+	 * @param cacheSize the most Courses kept in the cache
+	 * @throws IllegalArgumentException if the file cannot be read or cacheSize is not positive
+	 */
+	public LazyCourseCatalog(String fileName, int cacheSize) {
+		if (cacheSize < 1) {
+			throw new IllegalArgumentException("Invalid cache size.");
+		}
+		this.rows = new HashMap<String, Integer>();
+		this.cache = new LinkedHashMap<Integer, Course>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, Course> eldest) {
+				return size() > cacheSize;
+			}
+		};
+		this.materialized = new HashMap<Integer, RowReference>();
+		this.reclaimed = new ReferenceQueue<Course>();
+		this.invalid = new BitSet();
+
+		LineIndex index = new LineIndex();
+		Path path = Paths.get(fileName);
+		try {
+			this.file = FileChannel.open(path);
+			index.scan(Channels.newInputStream(file));
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Cannot find file.");
+		}
+		this.lineStart = Arrays.copyOf(index.start, index.lines);
+		this.lineLength = Arrays.copyOf(index.length, index.lines);
+		this.nextLine = Arrays.copyOf(index.next, index.lines);
+		this.rowLine = Arrays.copyOf(index.firstLine, rows.size());
+	}
+
+	/**
+	 * Builds the line and row index while the file is scanned.
+	 */
+	private class LineIndex {
+		/** Number of indexed lines */
+		private int lines;
+		/** Byte offset of each indexed line */
+		private long[] start = new long[1024];
+		/** Length in bytes of each indexed line */
+		private int[] length = new int[1024];
+		/** Next indexed line with the same name and section */
+		private int[] next = new int[1024];
+		/** First indexed line of each row */
+		private int[] firstLine = new int[1024];
+		/** Last indexed line of each row */
+		private int[] lastLine = new int[1024];
+
+		/**
+		 * Scans the file, indexing every line with enough fields to be a course.
+		 * @param in the file's contents
+		 * @throws IOException if the file cannot be read
+		 */
+		private void scan(InputStream in) throws IOException {
+			byte[] chunk = new byte[SCAN_BUFFER];
+			byte[] line = new byte[256];
+			int size = 0;
+			long offset = 0;
+			for (int read = in.read(chunk); read >= 0; read = in.read(chunk)) {
+				for (int i = 0; i < read; i++) {
+					if (chunk[i] == '\n') {
+						add(line, size, offset + i - size);
+						size = 0;
+					} else {
+						if (size == line.length) {
+							line = Arrays.copyOf(line, size * 2);
+						}
+						line[size++] = chunk[i];
+					}
+				}
+				offset += read;
+			}
+			add(line, size, offset - size);
+		}
+
+		/**
+		 * Indexes one line.
+		 * @param line bytes of the line
+		 * @param size number of bytes in the line
+		 * @param offset byte offset of the line in the file
+		 */
+		private void add(byte[] line, int size, long offset) {
+			if (size > 0 && line[size - 1] == '\r') {
+				size--;
+			}
+			int[] commas = new int[3];
+			int count = 0;
+			for (int i = 0; i < size; i++) {
+				if (line[i] == ',') {
+					if (count < commas.length) {
+						commas[count] = i;
+					}
+					count++;
+				}
+			}
+			if (count < MIN_COMMAS) {
+				return;
+			}
+			String key = new String(line, 0, commas[0], StandardCharsets.UTF_8) + ","
+					+ new String(line, commas[1] + 1, commas[2] - commas[1] - 1, StandardCharsets.UTF_8);
+			if (lines == start.length) {
+				start = Arrays.copyOf(start, lines * 2);
+				length = Arrays.copyOf(length, lines * 2);
+				next = Arrays.copyOf(next, lines * 2);
+			}
+			start[lines] = offset;
+			length[lines] = size;
+			next[lines] = -1;
+			Integer row = rows.get(key);
+			if (row == null) {
+				row = rows.size();
+				rows.put(key, row);
+				if (row == firstLine.length) {
+					firstLine = Arrays.copyOf(firstLine, row * 2);
+					lastLine = Arrays.copyOf(lastLine, row * 2);
+				}
+				firstLine[row] = lines;
+			} else {
+				next[lastLine[row]] = lines;
+			}
+			lastLine[row] = lines;
+			lines++;
+		}
+	}
+
+	/**
+	 * A weak reference to a materialized Course that remembers its row.
+	 */
+	private static class RowReference extends WeakReference<Course> {
+		/** Row of the Course */
+		private final int row;
+
+		/**
+		 * Constructs a RowReference.
+		 * @param course the materialized Course
+		 * @param row row of the Course
+		 * @param queue queue to enqueue on when the Course is reclaimed
+		 */
+		RowReference(Course course, int row, ReferenceQueue<Course> queue) {
+			super(course, queue);
+			this.row = row;
+		}
+	}
+
+	/**
+	 * Returns the Course for a row, parsing it if it is not cached or still referenced.
+	 * @param row the row
+	 * @return the row's Course, or null if the row has no valid line
+	 */
+	private Course materialize(int row) {
+		synchronized (cache) {
+			Course c = cache.get(row);
+			if (c != null) {
+				return c;
+			}
+			RowReference ref = materialized.get(row);
+			c = ref == null ? null : ref.get();
+			if (c != null) {
+				cache.put(row, c);
+				return c;
+			}
+			if (invalid.get(row)) {
+				return null;
+			}
+		}
+		Course parsed = null;
+		for (int line = rowLine[row]; line >= 0 && parsed == null; line = nextLine[line]) {
+			try {
+				parsed = CourseRecordIO.readCourse(readLine(line));
+			} catch (IllegalArgumentException e) {
+				// The line is invalid, try the next line for the row
+			}
+		}
+		synchronized (cache) {
+			if (parsed == null) {
+				invalid.set(row);
+				return null;
+			}
+			for (Object stale = reclaimed.poll(); stale != null; stale = reclaimed.poll()) {
+				materialized.remove(((RowReference) stale).row, stale);
+			}
+			RowReference ref = materialized.get(row);
+			Course raced = ref == null ? null : ref.get();
+			if (raced != null) {
+				parsed = raced;
+			} else {
+				materialized.put(row, new RowReference(parsed, row, reclaimed));
+			}
+			cache.put(row, parsed);
+			return parsed;
+		}
+	}
+
+	/**
+	 * Reads an indexed line from the file.
+	 * @param line the indexed line
+	 * @return the text of the line
+	 */
+	private String readLine(int line) {
+		ByteBuffer buffer = ByteBuffer.allocate(lineLength[line]);
+		try {
+			while (buffer.hasRemaining()) {
+				if (file.read(buffer, lineStart[line] + buffer.position()) < 0) {
+					throw new IOException("Catalog file changed.");
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return new String(buffer.array(), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns the number of Courses held in the cache.
+	 * @return the number of cached Courses
+	 */
+	public int getCachedCount() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * Returns the number of rows in the catalog.
+	 * @return the number of rows
+	 */
+	@Override
+	public int size() {
+		return rowLine.length;
+	}
+
+	/**
+	 * Returns the Course at the given row, parsing it on first use.
+	 * @param idx the row
+	 * @return the Course at idx, or null if the row has no valid line
+	 * @throws IndexOutOfBoundsException if idx is not in the catalog
+	 */
+	@Override
+	public Course getCourse(int idx) {
+		if (idx < 0 || idx >= rowLine.length) {
+			throw new IndexOutOfBoundsException("Invalid index.");
+		}
+		return materialize(idx);
+	}
+
+	/**
+	 * Retrieves a Course by name and section, parsing it on first use.
+	 * @param name name of the course
+	 * @param section the course's section
+	 * @return the Course, or null if it is not in the catalog
+	 */
+	@Override
+	public Course getCourse(String name, String section) {
+		Integer row = rows.get(name + "," + section);
+		return row == null ? null : materialize(row);
+	}
+
+	/**
+	 * Returns a read-only list of the valid Courses in catalog order. Every row is
+	 * parsed that has not been already.
+	 * @return the Courses in the catalog
+	 */
+	@Override
+	public List<Course> getCourses() {
+		ArrayList<Course> courses = new ArrayList<Course>(size());
+		for (int i = 0; i < size(); i++) {
+			Course c = materialize(i);
+			if (c != null) {
+				courses.add(c);
+			}
+		}
+		return Collections.unmodifiableList(courses);
+	}
+
+	/**
+	 * Converts the catalog to a 2D array with a row for each valid course and columns
+	 * for the name, section, title, and meeting string.
+	 * @return catalogArray a 2D array representation of the catalog
+	 */
+	@Override
+	public String[][] getCourseCatalog() {
+		ArrayList<String[]> catalogArray = new ArrayList<String[]>(size());
+		for (int i = 0; i < size(); i++) {
+			Course c = materialize(i);
+			if (c != null) {
+				catalogArray.add(c.getShortDisplayArray());
+			}
+		}
+		return catalogArray.toArray(new String[catalogArray.size()][]);
+	}
+
+	/**
+	 * Builds the next version of the catalog by applying a list of changes. The next
+	 * version is an ordinary CourseCatalog holding every valid Course of this one.
+	 * @param changes the changes to apply
+	 * @return the new catalog
+	 */
+	@Override
+	public CourseCatalog applyChanges(List<CourseChange> changes) {
+		return new CourseCatalog(getCourses()).applyChanges(changes);
+	}
+
+	/**
+	 * Closes the catalog file.
+	 * @throws IOException if the file cannot be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		file.close();
+	}
+
+}
@@ -0,0 +1,251 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import edu.ncsu.csc216.wolf_scheduler.io.CourseChange;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+
+/**
+ * Holds the current CourseCatalog loaded from a file and replaces it when the file
+ * changes. A new catalog is parsed off to the side and swapped in with one atomic
+ * reference update, so readers always see either the old catalog or the new one.
+ * WolfScheduler sessions built on a LiveCatalog move their schedules to the new
+ * catalog the next time they are used.
+ *
+ * Only a catalog with a newer version than the current one is published, so a slow
+ * reload can never replace a newer catalog. Replaced versions are not kept by the
+ * LiveCatalog; each is reclaimed by the garbage collector once no session is still
+ * pinned to it. getRetainedVersionCount() reports how many versions are still alive.
+ *
+ * Watching is optional. When started, a background thread uses a WatchService on
+ * the catalog's directory and reloads the file once it has been quiet for a short
+ * settle time, so a file that is still being written is not parsed half way.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class LiveCatalog implements Closeable {
+
+	/** Milliseconds the file must be quiet before it is reloaded */
+	private static final long SETTLE_MILLIS = 100;
+
+	/** The catalog file */
+	private final Path file;
+	/** The current catalog */
+	private final AtomicReference<CourseCatalog> current;
+	/** Watches the catalog's directory, null if not watching */
+	private WatchService watcher;
+	/** Replaced versions that may still be pinned by a session */
+	private final HashSet<WeakReference<CourseCatalog>> retired;
+	/** Queue of replaced versions that have been reclaimed */
+	private final ReferenceQueue<CourseCatalog> reclaimed;
+
+	/**
+	 * Constructs a LiveCatalog and loads the catalog file.
+	 * @param fileName the file containing course records
+	 * @throws IllegalArgumentException if the file cannot be read
+	 */
+	public LiveCatalog(String fileName) {
+		this.file = Paths.get(fileName).toAbsolutePath();
+		this.current = new AtomicReference<CourseCatalog>(new CourseCatalog(fileName));
+		this.retired = new HashSet<WeakReference<CourseCatalog>>();
+		this.reclaimed = new ReferenceQueue<CourseCatalog>();
+	}
+
+	/**
+	 * Returns the current catalog.
+	 * @return the current catalog
+	 */
+	public CourseCatalog getCatalog() {
+		return current.get();
+	}
+
+	/**
+	 * Replaces the current catalog if the given catalog is a newer version.
+	 * @param catalog the new catalog
+	 * @return true if the catalog was published, false if it is not newer
+	 * @throws IllegalArgumentException if catalog is null
+	 */
+	public boolean publish(CourseCatalog catalog) {
+		if (catalog == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
+		while (true) {
+			CourseCatalog old = current.get();
+			if (catalog.getVersion() <= old.getVersion()) {
+				return false;
+			}
+			if (current.compareAndSet(old, catalog)) {
+				retire(old);
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Tracks a replaced version until it is reclaimed.
+	 * @param old the replaced catalog
+	 */
+	private synchronized void retire(CourseCatalog old) {
+		retired.add(new WeakReference<CourseCatalog>(old, reclaimed));
+	}
+
+	/**
+	 * Returns the number of catalog versions still in memory, counting the current
+	 * version and every replaced version that a session may still be pinned to.
+	 * @return the number of retained versions
+	 */
+	public synchronized int getRetainedVersionCount() {
+		for (Object ref = reclaimed.poll(); ref != null; ref = reclaimed.poll()) {
+			retired.remove(ref);
+		}
+		return retired.size() + 1;
+	}
+
+	/**
+	 * Parses the catalog file again and replaces the current catalog with it. Courses
+	 * that are unchanged in the file are carried over from the current catalog along
+	 * with their seat counts. If the file cannot be read, or a newer catalog was
+	 * published while it was parsed, the current catalog is kept.
+	 *
+	 * The published catalog is the copy made by CourseCatalog.reuseUnchanged(), so
+	 * its version is assigned when that copy is built and is newer than the parsed
+	 * catalog's. The copy is built once for each current catalog observed. If
+	 * another version is published before the copy, and the parsed catalog is still
+	 * newer than it, the copy is built again against that version, which uses up
+	 * one more version number.
+	 * @return true if the catalog was replaced
+	 */
+	public boolean reload() {
+		CourseCatalog parsed;
+		try {
+			parsed = new CourseCatalog(file.toString());
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+		CourseCatalog old = current.get();
+		while (parsed.getVersion() > old.getVersion()) {
+			CourseCatalog next = parsed.reuseUnchanged(old);
+			CourseCatalog witness = current.compareAndExchange(old, next);
+			if (witness == old) {
+				retire(old);
+				return true;
+			}
+			old = witness;
+		}
+		return false;
+	}
+
+	/**
+	 * Applies a catalog change file to the current catalog and publishes the result
+	 * as the next version. Only the changed rows are parsed; unchanged Courses keep
+	 * their seat counts. If another version is published while the changes are being
+	 * applied, they are applied again to that version.
+	 * @param changeFileName the change file to apply
+	 * @return the number of valid changes in the file
+	 * @throws IllegalArgumentException if the change file cannot be read
+	 */
+	public int applyChanges(String changeFileName) {
+		ArrayList<CourseChange> changes;
+		try {
+			changes = CourseRecordIO.readCourseChanges(changeFileName);
+		} catch (FileNotFoundException e) {
+			throw new IllegalArgumentException("Cannot find file.");
+		}
+		while (true) {
+			CourseCatalog old = current.get();
+			if (current.compareAndSet(old, old.applyChanges(changes))) {
+				retire(old);
+				return changes.size();
+			}
+		}
+	}
+
+	/**
+	 * Starts a background thread that reloads the catalog whenever the file changes.
+	 * Does nothing if already watching.
+	 * @throws IOException if the directory cannot be watched
+	 */
+	public synchronized void startWatching() throws IOException {
+		if (watcher != null) {
+			return;
+		}
+		watcher = FileSystems.getDefault().newWatchService();
+		file.getParent().register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+				StandardWatchEventKinds.ENTRY_MODIFY);
+		WatchService service = watcher;
+		Thread thread = new Thread(() -> watch(service), "catalog-watcher");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Waits for changes to the catalog file and reloads it after each burst of
+	 * changes settles. Returns when the watch service is closed.
+	 * @param service the watch service to poll
+	 */
+	private void watch(WatchService service) {
+		try {
+			while (true) {
+				boolean changed = drain(service.take());
+				WatchKey more = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+				while (more != null) {
+					changed |= drain(more);
+					more = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+				}
+				if (changed) {
+					reload();
+				}
+			}
+		} catch (ClosedWatchServiceException e) {
+			// Stopped watching
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Consumes the events of a watch key and resets it.
+	 * @param key the signalled key
+	 * @return true if one of the events was for the catalog file
+	 */
+	private boolean drain(WatchKey key) {
+		boolean changed = false;
+		for (WatchEvent<?> event : key.pollEvents()) {
+			Object context = event.context();
+			if (event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(context)) {
+				changed = true;
+			}
+		}
+		key.reset();
+		return changed;
+	}
+
+	/**
+	 * Stops watching the catalog file.
+	 * @throws IOException if the watch service cannot be closed
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (watcher != null) {
+			watcher.close();
+			watcher = null;
+		}
+	}
+
+}
@@ -0,0 +1,419 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.ActivityRecordIO;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseChange;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
+
+/**
+ * A CourseCatalog stored in a memory-mapped file that any number of processes on a
+ * host can map read-only at the same time. The operating system keeps one copy of
+ * the file's pages for all of them, and rows are read straight from the mapping
+ * rather than copied onto each process's heap.
+ *
+ * The file is written once by build() from a course record file and holds:
+ * <ul>
+ * <li>a header with a magic number, format version, row count, and section offsets</li>
+ * <li>one fixed-width record per row, with string fields stored as offsets into the
+ * string pool</li>
+ * <li>the rows sorted by the UTF-8 bytes of name and section, for binary search</li>
+ * <li>a pool of the distinct strings, each stored once as a length and UTF-8 bytes</li>
+ * </ul>
+ * Lookups by name and section compare the mapped bytes directly, so a search builds
+ * no Strings. A Course is built from its row when it is used and is returned again
+ * for as long as anything refers to it, so every session in a process shares its
+ * seat count. Courses no one refers to are reclaimed, and listing or displaying the
+ * whole catalog builds each Course in turn rather than keeping them all.
+ *
+ * Seat counts are held only on the Courses in each process's heap. They are not
+ * stored in the file and are not shared between processes mapping it.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class MappedCourseCatalog extends CourseCatalog {
+
+	/** Magic number at the start of the file */
+	private static final int MAGIC = 0x57534343;
+	/** Version of the file format */
+	private static final int FORMAT = 2;
+	/** Bytes in the header */
+	private static final int HEADER_BYTES = 20;
+	/** Offset of the row count in the header */
+	private static final int ROWS_AT = 8;
+	/** Offset of the sorted key section's offset in the header */
+	private static final int KEYS_AT = 12;
+	/** Offset of the string pool's offset in the header */
+	private static final int POOL_AT = 16;
+	/** Number of int fields in a row */
+	private static final int ROW_FIELDS = 9;
+	/** Bytes in a row */
+	private static final int ROW_BYTES = ROW_FIELDS * Integer.BYTES;
+	/** Field of a row holding the name */
+	private static final int NAME = 0;
+	/** Field of a row holding the title */
+	private static final int TITLE = 1;
+	/** Field of a row holding the section */
+	private static final int SECTION = 2;
+	/** Field of a row holding the credits */
+	private static final int CREDITS = 3;
+	/** Field of a row holding the instructor id */
+	private static final int INSTRUCTOR = 4;
+	/** Field of a row holding the meeting days */
+	private static final int DAYS = 5;
+	/** Field of a row holding the start time */
+	private static final int START = 6;
+	/** Field of a row holding the end time */
+	private static final int END = 7;
+	/** Field of a row holding the seat capacity */
+	private static final int CAPACITY = 8;
+
+	/** The mapped file */
+	private final MappedByteBuffer data;
+	/** Number of rows */
+	private final int rows;
+	/** Offset of the sorted key section */
+	private final int keysOffset;
+	/** Offset of the string pool */
+	private final int poolOffset;
+	/** Courses built in this process, by row, while something refers to them */
+	private final HashMap<Integer, RowReference> courses;
+	/** Queue of built Courses that have been reclaimed */
+	private final ReferenceQueue<Course> reclaimed;
+
+	/**
+	 * Maps a catalog file written by build().
+	 * @param fileName the mapped catalog file
+	 * @throws IllegalArgumentException if the file cannot be read or is not a mapped catalog
+	 */
+	public MappedCourseCatalog(String fileName) {
+		try (FileChannel channel = FileChannel.open(Paths.get(fileName))) {
+			this.data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Cannot find file.");
+		}
+		if (data.capacity() < HEADER_BYTES || data.getInt(0) != MAGIC || data.getInt(Integer.BYTES) != FORMAT) {
+			throw new IllegalArgumentException("Invalid catalog file.");
+		}
+		this.rows = data.getInt(ROWS_AT);
+		this.keysOffset = data.getInt(KEYS_AT);
+		this.poolOffset = data.getInt(POOL_AT);
+		if (rows < 0 || keysOffset != HEADER_BYTES + rows * ROW_BYTES
+				|| poolOffset != keysOffset + rows * Integer.BYTES || poolOffset > data.capacity()) {
+			throw new IllegalArgumentException("Invalid catalog file.");
+		}
+		this.courses = new HashMap<Integer, RowReference>();
+		this.reclaimed = new ReferenceQueue<Course>();
+	}
+
+	/**
+	 * Writes a mapped catalog file from a course record file. Invalid and duplicate
+	 * records are dropped exactly as CourseCatalog does. The file is written with
+	 * ActivityRecordIO.replaceFile(), so it is forced to disk before it is renamed
+	 * into place, processes that map it never see a partly written catalog, and a
+	 * rebuilt catalog keeps the permissions of the one it replaces.
+	 * @param recordFileName the course record file
+	 * @param mappedFileName the mapped catalog file to write
+	 * @throws IOException if either file cannot be read or written
+	 */
+	public static void build(String recordFileName, String mappedFileName) throws IOException {
+		List<Course> records = CourseRecordIO.readCourseRecords(recordFileName);
+		ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+		DataOutputStream pool = new DataOutputStream(poolBytes);
+		HashMap<String, Integer> interned = new HashMap<String, Integer>();
+		int[][] fields = new int[records.size()][];
+		for (int i = 0; i < records.size(); i++) {
+			Course c = records.get(i);
+			fields[i] = new int[] {intern(c.getName(), pool, interned), intern(c.getTitle(), pool, interned),
+				intern(c.getSection(), pool, interned), c.getCredits(), intern(c.getInstructorId(), pool, interned),
+				intern(c.getMeetingDays(), pool, interned), c.getStartTime(), c.getEndTime(), c.getCapacity()};
+		}
+		ArrayList<Integer> sorted = new ArrayList<Integer>(records.size());
+		for (int i = 0; i < records.size(); i++) {
+			sorted.add(i);
+		}
+		Collections.sort(sorted, Comparator.comparing((Integer i) -> utf8(records.get(i).getName()), Arrays::compareUnsigned)
+				.thenComparing(i -> utf8(records.get(i).getSection()), Arrays::compareUnsigned));
+
+		ActivityRecordIO.replaceFile(mappedFileName, channel -> {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+			int keysOffset = HEADER_BYTES + records.size() * ROW_BYTES;
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT);
+			out.writeInt(records.size());
+			out.writeInt(keysOffset);
+			out.writeInt(keysOffset + records.size() * Integer.BYTES);
+			for (int[] row : fields) {
+				for (int f : row) {
+					out.writeInt(f);
+				}
+			}
+			for (int row : sorted) {
+				out.writeInt(row);
+			}
+			poolBytes.writeTo(out);
+			out.flush();
+		});
+	}
+
+	/**
+	 * Adds a string to the pool if it is not already there.
+	 * @param s the string
+	 * @param pool the pool being written
+	 * @param interned offset of each string already in the pool
+	 * @return offset of the string in the pool
+	 * @throws IOException if the pool cannot be written
+	 */
+	private static int intern(String s, DataOutputStream pool, HashMap<String, Integer> interned) throws IOException {
+		Integer offset = interned.get(s);
+		if (offset == null) {
+			byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+			offset = pool.size();
+			pool.writeInt(bytes.length);
+			pool.write(bytes);
+			interned.put(s, offset);
+		}
+		return offset;
+	}
+
+	/**
+	 * Encodes a string as UTF-8.
+	 * @param s the string
+	 * @return the string's bytes
+	 */
+	private static byte[] utf8(String s) {
+		return s.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Reads an int field of a row.
+	 * @param row the row
+	 * @param field the field
+	 * @return the field's value
+	 */
+	private int field(int row, int field) {
+		return data.getInt(HEADER_BYTES + row * ROW_BYTES + field * Integer.BYTES);
+	}
+
+	/**
+	 * Reads a string field of a row from the pool.
+	 * @param row the row
+	 * @param field the field
+	 * @return the field's value
+	 */
+	private String string(int row, int field) {
+		int at = poolOffset + field(row, field);
+		byte[] bytes = new byte[data.getInt(at)];
+		data.get(at + Integer.BYTES, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Compares a string field of a row with UTF-8 bytes, reading the pool in place.
+	 * @param row the row
+	 * @param field the field
+	 * @param key the bytes to compare with
+	 * @return negative, zero, or positive as the field sorts before, with, or after key
+	 */
+	private int compare(int row, int field, byte[] key) {
+		int at = poolOffset + field(row, field);
+		int length = data.getInt(at);
+		at += Integer.BYTES;
+		for (int i = 0; i < length && i < key.length; i++) {
+			int cmp = Byte.toUnsignedInt(data.get(at + i)) - Byte.toUnsignedInt(key[i]);
+			if (cmp != 0) {
+				return cmp;
+			}
+		}
+		return length - key.length;
+	}
+
+	/**
+	 * A weak reference to a built Course that remembers its row.
+	 */
+	private static class RowReference extends WeakReference<Course> {
+		/** Row of the Course */
+		private final int row;
+
+		/**
+		 * Constructs a RowReference.
+		 * @param course the built Course
+		 * @param row row of the Course
+		 * @param queue queue to enqueue on when the Course is reclaimed
+		 */
+		RowReference(Course course, int row, ReferenceQueue<Course> queue) {
+			super(course, queue);
+			this.row = row;
+		}
+	}
+
+	/**
+	 * Returns the Course for a row, building it if nothing still refers to the one
+	 * built before.
+	 * @param row the row
+	 * @return the row's Course
+	 */
+	private Course materialize(int row) {
+		synchronized (courses) {
+			RowReference ref = courses.get(row);
+			Course c = ref == null ? null : ref.get();
+			if (c != null) {
+				return c;
+			}
+		}
+		Course built = build(row);
+		synchronized (courses) {
+			for (Object stale = reclaimed.poll(); stale != null; stale = reclaimed.poll()) {
+				courses.remove(((RowReference) stale).row, stale);
+			}
+			RowReference ref = courses.get(row);
+			Course raced = ref == null ? null : ref.get();
+			if (raced != null) {
+				return raced;
+			}
+			courses.put(row, new RowReference(built, row, reclaimed));
+			return built;
+		}
+	}
+
+	/**
+	 * Builds a new Course from a row.
+	 * @param row the row
+	 * @return a Course with the row's fields
+	 */
+	private Course build(int row) {
+		Course c;
+		String days = string(row, DAYS);
+		if ("A".equals(days)) {
+			c = new Course(string(row, NAME), string(row, TITLE), string(row, SECTION), field(row, CREDITS),
+					string(row, INSTRUCTOR), days);
+		} else {
+			c = new Course(string(row, NAME), string(row, TITLE), string(row, SECTION), field(row, CREDITS),
+					string(row, INSTRUCTOR), days, field(row, START), field(row, END));
+		}
+		if (field(row, CAPACITY) >= 0) {
+			c.setCapacity(field(row, CAPACITY));
+		}
+		return c;
+	}
+
+	/**
+	 * Returns the number of Courses in the catalog.
+	 * @return the number of Courses
+	 */
+	@Override
+	public int size() {
+		return rows;
+	}
+
+	/**
+	 * Returns the Course at the given position in the catalog.
+	 * @param idx position of the Course
+	 * @return the Course at idx
+	 * @throws IndexOutOfBoundsException if idx is not in the catalog
+	 */
+	@Override
+	public Course getCourse(int idx) {
+		if (idx < 0 || idx >= rows) {
+			throw new IndexOutOfBoundsException("Invalid index.");
+		}
+		return materialize(idx);
+	}
+
+	/**
+	 * Retrieves a Course by name and section with a binary search of the sorted keys,
+	 * comparing their bytes in the mapping.
+	 * @param name name of the course
+	 * @param section the course's section
+	 * @return the Course, or null if it is not in the catalog
+	 */
+	@Override
+	public Course getCourse(String name, String section) {
+		byte[] nameKey = utf8(name);
+		byte[] sectionKey = utf8(section);
+		int low = 0;
+		int high = rows - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int row = data.getInt(keysOffset + mid * Integer.BYTES);
+			int cmp = compare(row, NAME, nameKey);
+			if (cmp == 0) {
+				cmp = compare(row, SECTION, sectionKey);
+			}
+			if (cmp < 0) {
+				low = mid + 1;
+			} else if (cmp > 0) {
+				high = mid - 1;
+			} else {
+				return materialize(row);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns a read-only list of the Courses in catalog order. The list reads each
+	 * Course from the mapping as it is reached, so iterating it does not keep the
+	 * whole catalog on the heap.
+	 * @return the Courses in the catalog
+	 */
+	@Override
+	public List<Course> getCourses() {
+		return new AbstractList<Course>() {
+			@Override
+			public Course get(int idx) {
+				return getCourse(idx);
+			}
+
+			@Override
+			public int size() {
+				return rows;
+			}
+		};
+	}
+
+	/**
+	 * Converts the catalog to a 2D array with as many rows as courses and columns
+	 * for the name, section, title, and meeting string. Each row is displayed from a
+	 * Course built for the moment and not kept.
+	 * @return catalogArray a 2D array representation of the catalog
+	 */
+	@Override
+	public String[][] getCourseCatalog() {
+		String[][] catalogArray = new String[rows][];
+		for (int i = 0; i < rows; i++) {
+			catalogArray[i] = build(i).getShortDisplayArray();
+		}
+		return catalogArray;
+	}
+
+	/**
+	 * Builds the next version of the catalog by applying a list of changes. The next
+	 * version is an ordinary CourseCatalog on the heap.
+	 * @param changes the changes to apply
+	 * @return the new catalog
+	 */
+	@Override
+	public CourseCatalog applyChanges(List<CourseChange> changes) {
+		return new CourseCatalog(getCourses()).applyChanges(changes);
+	}
+
+}
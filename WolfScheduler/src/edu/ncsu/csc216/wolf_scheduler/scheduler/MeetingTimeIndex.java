@@ -0,0 +1,182 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.WeakHashMap;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * An index of a CourseCatalog's sections by meeting days and times. Each set of
+ * meeting days is a 7-bit mask, and sections are grouped by their exact mask with
+ * each group sorted by start time.
+ *
+ * A query asks for sections that meet only on some of the given days and lie within
+ * a time window. Only the groups whose masks are subsets of the query's mask are
+ * visited, at most 128, and each is entered with a binary search on start time, so
+ * a query costs a logarithmic search per group plus the sections it scans. Arranged
+ * sections have no days or times and are returned only when asked for. The index for
+ * a catalog is built the first time it is queried and shared until the catalog is no
+ * longer used.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class MeetingTimeIndex {
+
+	/** Day characters in bit order, the same order as an Activity's time key */
+	private static final String DAYS = Activity.WEEK_DAYS;
+	/** Number of day masks */
+	private static final int MASKS = 1 << DAYS.length();
+	/** Index of each catalog queried so far */
+	private static final WeakHashMap<CourseCatalog, MeetingTimeIndex> INDEXES = new WeakHashMap<CourseCatalog, MeetingTimeIndex>();
+
+	/** Start times of each mask's sections in ascending order */
+	private final int[][] starts;
+	/** End times of each mask's sections, in the same order as starts */
+	private final int[][] ends;
+	/** Rows of each mask's sections, in the same order as starts */
+	private final int[][] rows;
+	/** Rows of arranged sections */
+	private final int[] arranged;
+
+	/**
+	 * Builds the meeting time index for a catalog.
+	 * @param catalog the catalog to index
+	 */
+	private MeetingTimeIndex(CourseCatalog catalog) {
+		ArrayList<ArrayList<int[]>> groups = new ArrayList<ArrayList<int[]>>(MASKS);
+		for (int m = 0; m < MASKS; m++) {
+			groups.add(new ArrayList<int[]>());
+		}
+		ArrayList<Integer> arrangedRows = new ArrayList<Integer>();
+		for (int row = 0; row < catalog.size(); row++) {
+			Course c = catalog.getCourse(row);
+			if (c == null) {
+				continue;
+			}
+			long key = c.getTimeKey();
+			if (Activity.hasUnknownDays(key)) {
+				continue;
+			}
+			int mask = Activity.getDayMask(key);
+			if (mask == 0) {
+				arrangedRows.add(row);
+			} else {
+				groups.get(mask).add(new int[] {c.getStartTime(), c.getEndTime(), row});
+			}
+		}
+		this.starts = new int[MASKS][];
+		this.ends = new int[MASKS][];
+		this.rows = new int[MASKS][];
+		for (int m = 0; m < MASKS; m++) {
+			ArrayList<int[]> group = groups.get(m);
+			group.sort((a, b) -> a[0] != b[0] ? Integer.compare(a[0], b[0]) : Integer.compare(a[2], b[2]));
+			starts[m] = new int[group.size()];
+			ends[m] = new int[group.size()];
+			rows[m] = new int[group.size()];
+			for (int i = 0; i < group.size(); i++) {
+				starts[m][i] = group.get(i)[0];
+				ends[m][i] = group.get(i)[1];
+				rows[m][i] = group.get(i)[2];
+			}
+		}
+		this.arranged = arrangedRows.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Returns the meeting time index for a catalog, building it on first use.
+	 * @param catalog the catalog
+	 * @return the catalog's meeting time index
+	 */
+	public static MeetingTimeIndex forCatalog(CourseCatalog catalog) {
+		synchronized (INDEXES) {
+			MeetingTimeIndex index = INDEXES.get(catalog);
+			if (index == null) {
+				index = new MeetingTimeIndex(catalog);
+				INDEXES.put(catalog, index);
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * Converts meeting days to a mask with a bit for each day.
+	 * @param days the meeting days
+	 * @return the day mask, or -1 if a character is not a day
+	 */
+	static int dayMask(String days) {
+		int mask = 0;
+		for (int i = 0; i < days.length(); i++) {
+			int day = DAYS.indexOf(days.charAt(i));
+			if (day < 0) {
+				return -1;
+			}
+			mask |= 1 << day;
+		}
+		return mask;
+	}
+
+	/**
+	 * Finds the sections that meet only on some of the given days, starting no
+	 * earlier than start and ending no later than end.
+	 * @param days the days sections may meet on, such as "TH"
+	 * @param start earliest start time in military time
+	 * @param end latest end time in military time
+	 * @param includeArranged whether to include arranged sections
+	 * @return the rows of the matching sections in catalog order
+	 * @throws IllegalArgumentException if days holds a character that is not a day or
+	 *         the window ends before it starts
+	 */
+	public int[] find(String days, int start, int end, boolean includeArranged) {
+		int mask = days == null ? -1 : dayMask(days);
+		if (mask < 0) {
+			throw new IllegalArgumentException("Invalid meeting days.");
+		}
+		if (end < start) {
+			throw new IllegalArgumentException("Invalid time window.");
+		}
+		int[] found = new int[16];
+		int size = 0;
+		for (int sub = mask; sub > 0; sub = (sub - 1) & mask) {
+			int[] groupStarts = starts[sub];
+			for (int i = lowerBound(groupStarts, start); i < groupStarts.length && groupStarts[i] <= end; i++) {
+				if (ends[sub][i] <= end) {
+					if (size == found.length) {
+						found = Arrays.copyOf(found, size * 2);
+					}
+					found[size++] = rows[sub][i];
+				}
+			}
+		}
+		if (includeArranged) {
+			found = Arrays.copyOf(found, Math.max(found.length, size + arranged.length));
+			System.arraycopy(arranged, 0, found, size, arranged.length);
+			size += arranged.length;
+		}
+		int[] result = Arrays.copyOf(found, size);
+		Arrays.sort(result);
+		return result;
+	}
+
+	/**
+	 * Finds the first position in a sorted array holding a value no less than key.
+	 * @param sorted values in ascending order
+	 * @param key the value to find
+	 * @return the first position with a value of at least key, or the array's length
+	 */
+	private static int lowerBound(int[] sorted, int key) {
+		int low = 0;
+		int high = sorted.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (sorted[mid] < key) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+}
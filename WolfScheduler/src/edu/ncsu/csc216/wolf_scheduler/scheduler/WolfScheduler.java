@@ -1,44 +1,215 @@
 package edu.ncsu.csc216.wolf_scheduler.scheduler;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 import edu.ncsu.csc216.wolf_scheduler.course.ConflictException;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
 import edu.ncsu.csc216.wolf_scheduler.course.Event;
+import edu.ncsu.csc216.wolf_scheduler.io.ActivityRecordEncoder;
 import edu.ncsu.csc216.wolf_scheduler.io.ActivityRecordIO;
-import edu.ncsu.csc216.wolf_scheduler.io.CourseRecordIO;
 
 /**
  * Reads, creates, and exports activity schedules using a course catalog.
  * Manages course information and displays and exports final schedules for the user.
  * Allows the import of any valid file with the correct course record format.
  * Allows creation of event and interactions between events and courses in a schedule.
+ * Each call that reads the catalog is pinned to one catalog version for the whole
+ * call, even if a LiveCatalog publishes a new version part way through.
  * @author Ryan Blazer
  * @version 01/12/2023
  */
 public class WolfScheduler {
 	
-	/** A catalog of courses */
-	private ArrayList<Course> catalog;
+	/** A catalog of courses, shared with other sessions */
+	private CourseCatalog catalog;
 	/** A schedule built off of activities */
 	private ArrayList<Activity> schedule;
 	/** A title for the schedule */
 	private String title;
+	/** Catalog that may be replaced while the session is open, null if fixed */
+	private LiveCatalog liveCatalog;
+	/** Courses dropped from the schedule because the catalog changed */
+	private ArrayList<Course> droppedCourses;
 	
 	/**
 	 * Constructor for the WolfScheduler that takes in data from a file.
 	 * @param fileName the file containing activity records.
 	 */
 	public WolfScheduler(String fileName) {
+		this(new CourseCatalog(fileName));
+	}
+	
+	/**
+	 * Constructs a WolfScheduler session with an empty schedule that reads from a
+	 * shared catalog. The catalog is not copied, so many sessions can be created
+	 * from one loaded catalog.
+	 * @param catalog the shared course catalog
+	 * @throws IllegalArgumentException if the catalog is null
+	 */
+	public WolfScheduler(CourseCatalog catalog) {
+		if (catalog == null) {
+			throw new IllegalArgumentException("Invalid catalog.");
+		}
 		this.schedule = new ArrayList<Activity>();
 		this.title = "My Schedule";
-		try {
-			this.catalog = CourseRecordIO.readCourseRecords(fileName);
-		} catch (Exception e) {
-			throw new IllegalArgumentException("Cannot find file.");
+		this.catalog = catalog;
+		this.droppedCourses = new ArrayList<Course>();
+	}
+	
+	/**
+	 * Constructs a WolfScheduler session that follows a LiveCatalog. When the live
+	 * catalog is replaced, the schedule moves to the new catalog the next time the
+	 * session is used. Courses that are no longer offered, are full, or now conflict
+	 * with the rest of the schedule are dropped and reported by getDroppedCourses().
+	 * @param liveCatalog the catalog to follow
+	 * @throws IllegalArgumentException if the catalog is null
+	 */
+	public WolfScheduler(LiveCatalog liveCatalog) {
+		this(liveCatalog == null ? null : liveCatalog.getCatalog());
+		this.liveCatalog = liveCatalog;
+	}
+	
+	/**
+	 * Returns the catalog this session reads from.
+	 * @return the course catalog
+	 */
+	public CourseCatalog getCatalog() {
+		return currentCatalog();
+	}
+	
+	/**
+	 * Returns the version of the catalog the session is pinned to.
+	 * @return the catalog version
+	 */
+	public long getCatalogVersion() {
+		return currentCatalog().getVersion();
+	}
+	
+	/**
+	 * Returns the catalog version for the current call, first moving the schedule to
+	 * a newer version if the live catalog has been replaced. Callers read the result
+	 * once and use it for the whole call.
+	 * @return the course catalog
+	 */
+	private CourseCatalog currentCatalog() {
+		if (liveCatalog != null) {
+			CourseCatalog latest = liveCatalog.getCatalog();
+			if (latest != catalog) {
+				rebindCatalog(latest);
+			}
+		}
+		return catalog;
+	}
+	
+	/**
+	 * Moves the schedule to a new catalog. Each Course is replaced by the Course with
+	 * the same name and section in the new catalog, and its seat moves with it.
+	 * A replaced Course is dropped if it is no longer offered, is full, or now
+	 * conflicts with another activity in the schedule. Events are always kept.
+	 * @param latest the new catalog
+	 */
+	private void rebindCatalog(CourseCatalog latest) {
+		Activity[] rebound = new Activity[schedule.size()];
+		boolean[] replaced = new boolean[schedule.size()];
+		for (int i = 0; i < schedule.size(); i++) {
+			Activity a = schedule.get(i);
+			rebound[i] = a;
+			if (a instanceof Course) {
+				Course old = (Course) a;
+				Course replacement = latest.getCourse(old.getName(), old.getSection());
+				if (replacement != old) {
+					old.releaseSeat();
+					rebound[i] = replacement != null && replacement.claimSeat() ? replacement : null;
+					replaced[i] = true;
+				}
+			}
 		}
 		
+		ArrayList<Activity> kept = new ArrayList<Activity>(schedule.size());
+		for (int i = 0; i < rebound.length; i++) {
+			if (replaced[i] && rebound[i] != null && conflictsWithOthers(rebound, i)) {
+				((Course) rebound[i]).releaseSeat();
+				rebound[i] = null;
+			}
+			if (rebound[i] == null) {
+				droppedCourses.add((Course) schedule.get(i));
+			} else {
+				kept.add(rebound[i]);
+			}
+		}
+		this.schedule = kept;
+		this.catalog = latest;
+	}
+	
+	/**
+	 * Checks if an activity conflicts with any other activity still in the list.
+	 * @param activities the activities, with null for dropped activities
+	 * @param idx position of the activity to check
+	 * @return true if the activity conflicts with another
+	 */
+	private static boolean conflictsWithOthers(Activity[] activities, int idx) {
+		long key = activities[idx].getTimeKey();
+		for (int j = 0; j < activities.length; j++) {
+			if (j != idx && activities[j] != null && conflicts(activities[idx], key, activities[j])) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Checks if an activity conflicts with any activity in the schedule.
+	 * @param activity the activity to check
+	 * @return true if the activity conflicts with a scheduled activity
+	 */
+	private boolean conflictsWithSchedule(Activity activity) {
+		long key = activity.getTimeKey();
+		for (int i = 0; i < schedule.size(); i++) {
+			if (conflicts(activity, key, schedule.get(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Checks if two activities conflict by comparing their time keys, without the
+	 * exception Activity.checkConflict() throws. Only an activity whose meeting days
+	 * a time key cannot hold is passed to checkConflict().
+	 * @param activity the activity to check
+	 * @param key the activity's time key
+	 * @param other the activity to check against
+	 * @return true if the activities conflict
+	 */
+	private static boolean conflicts(Activity activity, long key, Activity other) {
+		long otherKey = other.getTimeKey();
+		if (!Activity.hasUnknownDays(key) && !Activity.hasUnknownDays(otherKey)) {
+			return Activity.conflicts(key, otherKey);
+		}
+		try {
+			activity.checkConflict(other);
+			return false;
+		} catch (ConflictException e) {
+			return true;
+		}
+	}
+	
+	/**
+	 * Returns the Courses dropped from the schedule because the catalog changed since
+	 * the last call, as rows with the name, section, title, and meeting string.
+	 * @return a 2D array of the dropped courses
+	 */
+	public String[][] getDroppedCourses() {
+		currentCatalog();
+		String[][] dropped = new String[droppedCourses.size()][4];
+		for (int i = 0; i < droppedCourses.size(); i++) {
+			dropped[i] = droppedCourses.get(i).getShortDisplayArray();
+		}
+		droppedCourses.clear();
+		return dropped;
 	}
 	
 	/**
@@ -48,13 +219,95 @@ public class WolfScheduler {
 	 * @return catalogArray a 2D array representation of catalog.
 	 */
 	public String[][] getCourseCatalog() {
-		String[][] catalogArray = new String[catalog.size()][3];
-		
-		for (int i = 0; i < catalog.size(); i++) {
-			Course c = catalog.get(i);
-			catalogArray[i] = c.getShortDisplayArray();
+		return currentCatalog().getCourseCatalog();
+	}
+	
+	/**
+	 * Retrieves one page of the course catalog with the same columns as
+	 * getCourseCatalog(). Positions are the same as getCatalogSize() counts, so a
+	 * view can show a large catalog by reading only the rows it displays. A row that
+	 * the catalog cannot supply a Course for is null.
+	 * @param offset catalog position of the first row
+	 * @param limit most rows to return
+	 * @return a 2D array with a row for each catalog position on the page
+	 * @throws IllegalArgumentException if offset or limit is negative
+	 */
+	public String[][] getCourseCatalog(int offset, int limit) {
+		return currentCatalog().getCourseCatalog(offset, limit);
+	}
+	
+	/**
+	 * Returns the number of positions in the course catalog.
+	 * @return the number of catalog rows
+	 */
+	public int getCatalogSize() {
+		return currentCatalog().size();
+	}
+	
+	/**
+	 * Finds every pair of catalog sections that the same instructor teaches at
+	 * overlapping times. Each row contains the instructor id followed by the name
+	 * and section of both conflicting Courses.
+	 * @return a 2D array with a row for each double-booked pair of sections
+	 */
+	public String[][] getInstructorConflicts() {
+		return ConflictFinder.findInstructorConflicts(currentCatalog().getCourses());
+	}
+	
+	/**
+	 * Searches the catalog for sections whose name starts with the query, or whose
+	 * title and instructor id contain words beginning with every word of the query.
+	 * Matching ignores case. Returns one page of the matches in catalog order, with
+	 * the same columns as getCourseCatalog().
+	 * @param query the search text; an empty query matches every section
+	 * @param offset number of matches to skip
+	 * @param limit most matches to return
+	 * @return a 2D array with a row for each match on the page
+	 * @throws IllegalArgumentException if offset or limit is negative
+	 */
+	public String[][] searchCatalog(String query, int offset, int limit) {
+		if (offset < 0 || limit < 0) {
+			throw new IllegalArgumentException("Invalid page.");
 		}
-		return catalogArray;
+		CourseCatalog pinned = currentCatalog();
+		int[] rows = CatalogSearchIndex.forCatalog(pinned).search(query);
+		int size = Math.max(0, Math.min(limit, rows.length - offset));
+		String[][] page = new String[size][];
+		for (int i = 0; i < size; i++) {
+			page[i] = pinned.getCourse(rows[offset + i]).getShortDisplayArray();
+		}
+		return page;
+	}
+	
+	/**
+	 * Returns the number of sections that searchCatalog() matches for a query.
+	 * @param query the search text
+	 * @return the number of matching sections
+	 */
+	public int getCatalogSearchCount(String query) {
+		return CatalogSearchIndex.forCatalog(currentCatalog()).search(query).length;
+	}
+	
+	/**
+	 * Finds the catalog sections that meet only on some of the given days and lie
+	 * within a time window, such as every section meeting on TH between 900 and 1300.
+	 * Returns rows with the same columns as getCourseCatalog(), in catalog order.
+	 * @param days the days sections may meet on
+	 * @param start earliest start time in military time
+	 * @param end latest end time in military time
+	 * @param includeArranged whether to include arranged sections
+	 * @return a 2D array with a row for each matching section
+	 * @throws IllegalArgumentException if days holds a character that is not a day or
+	 *         the window ends before it starts
+	 */
+	public String[][] findCatalogSections(String days, int start, int end, boolean includeArranged) {
+		CourseCatalog pinned = currentCatalog();
+		int[] rows = MeetingTimeIndex.forCatalog(pinned).find(days, start, end, includeArranged);
+		String[][] sections = new String[rows.length][];
+		for (int i = 0; i < rows.length; i++) {
+			sections[i] = pinned.getCourse(rows[i]).getShortDisplayArray();
+		}
+		return sections;
 	}
 	
 	/**
@@ -64,6 +317,7 @@ public class WolfScheduler {
 	 * @return activitySchedule a 2D array representation of the schedule.
 	 */
 	public String[][] getScheduledActivities() {
+		currentCatalog();
 		String[][] activitySchedule = new String[schedule.size()][4];
 		for (int i = 0; i < schedule.size(); i++) {
 			Activity a = schedule.get(i);
@@ -79,6 +333,7 @@ public class WolfScheduler {
 	 * @return fullActivitySchedule a 2D array representation of the full schedule.
 	 */
 	public String[][] getFullScheduledActivities() {
+		currentCatalog();
 		String[][] fullActivitySchedule = new String[schedule.size()][7];
 		for (int i = 0; i < schedule.size(); i++) {
 			Activity a = schedule.get(i);
@@ -94,25 +349,23 @@ public class WolfScheduler {
 	 * @return Course the course desired
 	 */
 	public Course getCourseFromCatalog(String name, String section) {
-		for (int i = 0; i < this.catalog.size(); i++) {
-			if (this.catalog.get(i).getName().equals(name) && this.catalog.get(i).getSection().equals(section)) {
-				return this.catalog.get(i);
-			} 
-		}
-		return null;
+		return currentCatalog().getCourse(name, section);
 	}
 	
 	/**
 	 * Adds a course to the schedule. Checks if the course exists in the catalog, if
 	 * it doesn't it returns false. Also checks if it is already in the schedule, if 
-	 * it is then it throws an IllegalArgumentException.
+	 * it is then it throws an IllegalArgumentException. A seat is claimed in the
+	 * course, so a course at capacity cannot be added.
 	 * @param name name of the course
 	 * @param section section of the course
 	 * @return true if the course was successfully added, false otherwise
-	 * @throws IllegalArgumentException if the course is already in the schedule
+	 * @throws IllegalArgumentException if the course is already in the schedule,
+	 * conflicts with the schedule, or is full
 	 */
 	public boolean addCourseToSchedule(String name, String section) {
-		Course courseToAdd = getCourseFromCatalog(name, section);
+		CourseCatalog pinned = currentCatalog();
+		Course courseToAdd = pinned.getCourse(name, section);
 		if (courseToAdd == null) {
 			return false;
 		}
@@ -124,14 +377,13 @@ public class WolfScheduler {
 			}
 		}
 			
-		for (int i = 0; i < this.schedule.size(); i++) {
-			try {
-				courseToAdd.checkConflict(this.schedule.get(i));
-			} catch (ConflictException e) {
-				throw new IllegalArgumentException("The course cannot be added due to a conflict.");
-			}
-		} 
+		if (conflictsWithSchedule(courseToAdd)) {
+			throw new IllegalArgumentException("The course cannot be added due to a conflict.");
+		}
 		
+		if (!courseToAdd.claimSeat()) {
+			throw new IllegalArgumentException("The course cannot be added because it is full.");
+		}
 		this.schedule.add(courseToAdd);
 		return true;
 	}
@@ -146,6 +398,7 @@ public class WolfScheduler {
 	 */
 	public void addEventToSchedule(String eventTitle, String eventMeetingDays, int eventStartTime, int eventEndTime, String eventDetails) {
 		Event newEvent = new Event(eventTitle, eventMeetingDays, eventStartTime, eventEndTime, eventDetails);
+		currentCatalog();
 		
 		for (int i = 0; i < this.schedule.size(); i++) {
 			boolean isADuplicate = newEvent.isDuplicate(this.schedule.get(i));
@@ -154,25 +407,142 @@ public class WolfScheduler {
 			}
 		}
 		
-		for (int i = 0; i < this.schedule.size(); i++) {
-			try {
-				newEvent.checkConflict(this.schedule.get(i));
-			} catch (ConflictException e) {
-				throw new IllegalArgumentException("The event cannot be added due to a conflict.");
-			}
+		if (conflictsWithSchedule(newEvent)) {
+			throw new IllegalArgumentException("The event cannot be added due to a conflict.");
 		}
 		
 		this.schedule.add(newEvent);
 	}
 	
 	/**
-	 * Removes a activity from the schedule.
+	 * Adds a batch of courses and events to the schedule as one unit. Every item is
+	 * checked against the schedule and against the other items in the batch for
+	 * missing courses, duplicates, conflicts, and full courses, using the same rules
+	 * as addCourseToSchedule() and addEventToSchedule(). If every item passes the whole
+	 * batch is added, otherwise nothing is added and no seats are held.
+	 * 
+	 * The returned array has a result for each course followed by a result for each
+	 * event, in the order given. A result is empty if the item can be added and holds
+	 * the error message otherwise, so the batch was added only if every result is empty.
+	 * @param courses name and section pairs of the courses to add
+	 * @param events the events to add
+	 * @return the result for each item in the batch
+	 * @throws IllegalArgumentException if either list, a course pair, or an event is null
+	 */
+	public String[] addActivitiesToSchedule(List<String[]> courses, List<Event> events) {
+		if (courses == null || events == null) {
+			throw new IllegalArgumentException("Invalid batch.");
+		}
+		int batchSize = courses.size() + events.size();
+		String[] results = new String[batchSize];
+		Activity[] batch = new Activity[batchSize];
+		CourseCatalog pinned = currentCatalog();
+		for (int i = 0; i < courses.size(); i++) {
+			String[] pair = courses.get(i);
+			if (pair == null || pair.length != 2) {
+				throw new IllegalArgumentException("Invalid batch.");
+			}
+			batch[i] = pinned.getCourse(pair[0], pair[1]);
+			if (batch[i] == null) {
+				results[i] = "The course " + pair[0] + " " + pair[1] + " is not in the catalog.";
+			}
+		}
+		for (int i = 0; i < events.size(); i++) {
+			if (events.get(i) == null) {
+				throw new IllegalArgumentException("Invalid batch.");
+			}
+			batch[courses.size() + i] = events.get(i);
+		}
+		return addBatch(batch, results);
+	}
+	
+	/**
+	 * Adds a batch of activities to the schedule as one unit, in the order given.
+	 * Items that already have a result are not added. Every other item is checked
+	 * against the schedule and the earlier items of the batch for duplicates and
+	 * conflicts, and then every Course must have a free seat. If every item passes
+	 * the whole batch is added, otherwise nothing is added and no seats are held.
+	 * @param batch the activities to add, null only where the item already has a result
+	 * @param results the result for each item so far, null if it has not failed
+	 * @return the results, empty for each item that can be added
+	 */
+	private String[] addBatch(Activity[] batch, String[] results) {
+		HashSet<String> courseNames = new HashSet<String>();
+		HashSet<String> eventTitles = new HashSet<String>();
+		for (Activity a : schedule) {
+			if (a instanceof Course) {
+				courseNames.add(((Course) a).getName());
+			} else {
+				eventTitles.add(a.getTitle());
+			}
+		}
+		for (int i = 0; i < batch.length; i++) {
+			if (results[i] != null) {
+				batch[i] = null;
+			} else if (batch[i] instanceof Course) {
+				if (!courseNames.add(((Course) batch[i]).getName())) {
+					results[i] = "You are already enrolled in " + ((Course) batch[i]).getName();
+				}
+			} else if (!eventTitles.add(batch[i].getTitle())) {
+				results[i] = "You have already created an event called " + batch[i].getTitle();
+			}
+		}
+		
+		ArrayList<Activity> combined = new ArrayList<Activity>(schedule);
+		int[] itemAt = new int[schedule.size() + batch.length];
+		for (int i = 0; i < batch.length; i++) {
+			if (batch[i] != null && results[i] == null) {
+				itemAt[combined.size()] = i;
+				combined.add(batch[i]);
+			}
+		}
+		for (int[] pair : ConflictFinder.findConflictingPairs(combined)) {
+			if (pair[1] >= schedule.size()) {
+				int item = itemAt[pair[1]];
+				results[item] = batch[item] instanceof Course ? "The course cannot be added due to a conflict."
+						: "The event cannot be added due to a conflict.";
+			}
+		}
+		
+		boolean valid = true;
+		for (int i = 0; i < batch.length; i++) {
+			if (results[i] == null) {
+				results[i] = "";
+			} else {
+				valid = false;
+			}
+		}
+		if (!valid) {
+			return results;
+		}
+		
+		for (int i = 0; i < batch.length; i++) {
+			if (batch[i] instanceof Course && !((Course) batch[i]).claimSeat()) {
+				results[i] = "The course cannot be added because it is full.";
+				for (int j = 0; j < i; j++) {
+					if (batch[j] instanceof Course) {
+						((Course) batch[j]).releaseSeat();
+					}
+				}
+				return results;
+			}
+		}
+		for (Activity a : batch) {
+			schedule.add(a);
+		}
+		return results;
+	}
+	
+	/**
+	 * Removes a activity from the schedule. If the activity is a course its
+	 * seat is released.
 	 * @param idx index of the activity in the schedule.
 	 * @return true if the activity was successfully removed, false otherwise
 	 */
 	public boolean removeActivityFromSchedule(int idx) {
 		try {
-			schedule.remove(idx);
+			Activity removed = schedule.remove(idx);
+			releaseSeat(removed);
 			return true;
 		} catch (Exception e) {
 			return false;
@@ -180,13 +550,27 @@ public class WolfScheduler {
 	}
 	
 	/**
-	 * Resets the schedule to a blank list.
+	 * Resets the schedule to a blank list, releasing the seats of every course
+	 * in it.
 	 */
 	public void resetSchedule() {
+		for (Activity a : schedule) {
+			releaseSeat(a);
+		}
 		this.schedule = new ArrayList<Activity>();
 		
 	}
 	
+	/**
+	 * Releases the seat held by an activity if it is a course.
+	 * @param activity the activity leaving the schedule
+	 */
+	private void releaseSeat(Activity activity) {
+		if (activity instanceof Course) {
+			((Course) activity).releaseSeat();
+		}
+	}
+	
 	/**
 	 * Returns the schedule's title.
 	 * @return the schedule's title
@@ -216,12 +600,54 @@ public class WolfScheduler {
 	 * @throws IllegalArgumentException if the fileName cannot be saved/is invalid
 	 */
 	public void exportSchedule(String fileName) {
+		exportSchedule(fileName, new ActivityRecordEncoder());
+	}
+	
+	/**
+	 * Exports the schedule to a file through an encoder that is reused across many
+	 * exports. If the file cannot be saved then an IllegalArgumentException is thrown.
+	 * @param fileName the name of the file to be exported
+	 * @param encoder the encoder to write through
+	 * @throws IllegalArgumentException if the fileName cannot be saved/is invalid
+	 */
+	public void exportSchedule(String fileName, ActivityRecordEncoder encoder) {
+		currentCatalog();
 		try {
-			ActivityRecordIO.writeActivityRecords(fileName, schedule);
+			ActivityRecordIO.writeActivityRecords(fileName, schedule, encoder);
 		} catch (Exception e) {
 			throw new IllegalArgumentException("The file cannot be saved.");
 		}
 		
 	}
+	
+	/**
+	 * Restores a schedule exported by exportSchedule(). The file is read in one pass
+	 * with each course resolved against the pinned catalog, and everything in it is
+	 * added as one batch in file order, with the same checks as
+	 * addActivitiesToSchedule(), so either the whole saved schedule is added or
+	 * nothing is. A line that is neither a catalog course nor a valid event, such as
+	 * a course that is no longer offered, fails the import. Blank lines are skipped.
+	 * @param fileName the name of the file to import
+	 * @return the result for each non-blank line of the file, empty if the line's
+	 *         activity can be added and holding the error message otherwise
+	 * @throws IllegalArgumentException if the file cannot be read
+	 */
+	public String[] importSchedule(String fileName) {
+		CourseCatalog pinned = currentCatalog();
+		ArrayList<Activity> activities;
+		try {
+			activities = ActivityRecordIO.readActivityRecords(fileName, pinned::getCourse);
+		} catch (Exception e) {
+			throw new IllegalArgumentException("The file cannot be read.");
+		}
+		Activity[] batch = activities.toArray(new Activity[activities.size()]);
+		String[] results = new String[batch.length];
+		for (int i = 0; i < batch.length; i++) {
+			if (batch[i] == null) {
+				results[i] = "The record is not a course in the catalog or a valid event.";
+			}
+		}
+		return addBatch(batch, results);
+	}
 
 }
@@ -0,0 +1,398 @@
+package edu.ncsu.csc216.wolf_scheduler.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * A headless registration service that exposes WolfScheduler operations as JSON
+ * endpoints on localhost. All sessions share one CourseCatalog, and each session is
+ * a WolfScheduler keyed by the session parameter of the request. Requests are handled
+ * on a fixed pool of worker threads. The endpoints are:
+ * <ul>
+ * <li>GET /catalog - the course catalog</li>
+ * <li>GET /schedule - the session's schedule</li>
+ * <li>POST /schedule/course - adds the course with the name and section parameters</li>
+ * <li>POST /schedule/event - adds an event with the title, days, start, end, and details parameters</li>
+ * <li>POST /schedule/remove - removes the activity at the idx parameter</li>
+ * <li>POST /schedule/reset - resets the schedule</li>
+ * <li>GET /schedule/export - the schedule title and full activity rows</li>
+ * </ul>
+ * Parameters may be given in the query string or a form-encoded request body.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class WolfSchedulerServer {
+
+	/** Default port for the service */
+	private static final int DEFAULT_PORT = 8216;
+	/** Number of worker threads per available processor */
+	private static final int THREADS_PER_PROCESSOR = 4;
+	/** HTTP status for a successful request */
+	private static final int OK = 200;
+	/** HTTP status for an invalid request */
+	private static final int BAD_REQUEST = 400;
+	/** HTTP status for a missing resource */
+	private static final int NOT_FOUND = 404;
+	/** HTTP status for a request with the wrong method */
+	private static final int BAD_METHOD = 405;
+	/** Seconds to wait for in-flight requests when stopping */
+	private static final int STOP_DELAY = 1;
+
+	/** Catalog shared by every session */
+	private final CourseCatalog catalog;
+	/** Sessions by session id */
+	private final ConcurrentHashMap<String, WolfScheduler> sessions;
+	/** Underlying HTTP server */
+	private final HttpServer server;
+	/** Worker threads that handle requests */
+	private final ExecutorService workers;
+
+	/**
+	 * Constructs a WolfSchedulerServer bound to localhost. The server does not accept
+	 * requests until it is started.
+	 * @param catalog the catalog shared by every session
+	 * @param port the port to listen on, or 0 for any free port
+	 * @param threads the number of worker threads
+	 * @throws IOException if the port cannot be bound
+	 * @throws IllegalArgumentException if the catalog is null or threads is not positive
+	 */
+	public WolfSchedulerServer(CourseCatalog catalog, int port, int threads) throws IOException {
+		if (catalog == null || threads < 1) {
+			throw new IllegalArgumentException("Invalid server.");
+		}
+		this.catalog = catalog;
+		this.sessions = new ConcurrentHashMap<String, WolfScheduler>();
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		this.workers = Executors.newFixedThreadPool(threads);
+		server.setExecutor(workers);
+		server.createContext("/catalog", new Endpoint("GET") {
+			@Override
+			protected String handle(HashMap<String, String> params) {
+				return rows(WolfSchedulerServer.this.catalog.getCourseCatalog());
+			}
+		});
+		server.createContext("/schedule", new Endpoint("GET") {
+			@Override
+			protected String handle(HashMap<String, String> params) {
+				WolfScheduler session = getSession(params);
+				synchronized (session) {
+					return rows(session.getScheduledActivities());
+				}
+			}
+		});
+		server.createContext("/schedule/course", new Endpoint("POST") {
+			@Override
+			protected String handle(HashMap<String, String> params) {
+				WolfScheduler session = getSession(params);
+				synchronized (session) {
+					if (!session.addCourseToSchedule(param(params, "name"), param(params, "section"))) {
+						throw new IllegalStateException("The course is not in the catalog.");
+					}
+				}
+				return "{\"added\":true}";
+			}
+		});
+		server.createContext("/schedule/event", new Endpoint("POST") {
+			@Override
+			protected String handle(HashMap<String, String> params) {
+				WolfScheduler session = getSession(params);
+				synchronized (session) {
+					session.addEventToSchedule(param(params, "title"), param(params, "days"),
+							intParam(params, "start"), intParam(params, "end"), param(params, "details"));
+				}
+				return "{\"added\":true}";
+			}
+		});
+		server.createContext("/schedule/remove", new Endpoint("POST") {
+			@Override
+			protected String handle(HashMap<String, String> params) {
+				WolfScheduler session = getSession(params);
+				synchronized (session) {
+					if (!session.removeActivityFromSchedule(intParam(params, "idx"))) {
+						throw new IllegalStateException("The activity is not in the schedule.");
+					}
+				}
+				return "{\"removed\":true}";
+			}
+		});
+		server.createContext("/schedule/reset", new Endpoint("POST") {
+			@Override
+			protected String handle(HashMap<String, String> params) {
+				WolfScheduler session = getSession(params);
+				synchronized (session) {
+					session.resetSchedule();
+				}
+				return "{\"reset\":true}";
+			}
+		});
+		server.createContext("/schedule/export", new Endpoint("GET") {
+			@Override
+			protected String handle(HashMap<String, String> params) {
+				WolfScheduler session = getSession(params);
+				synchronized (session) {
+					return "{\"title\":" + string(session.getScheduleTitle()) + ",\"activities\":"
+							+ rows(session.getFullScheduledActivities()) + "}";
+				}
+			}
+		});
+	}
+
+	/**
+	 * Starts accepting requests.
+	 */
+	public void start() {
+		server.start();
+	}
+
+	/**
+	 * Stops accepting requests, waits briefly for in-flight requests, and shuts down
+	 * the worker threads.
+	 */
+	public void stop() {
+		server.stop(STOP_DELAY);
+		workers.shutdown();
+		try {
+			workers.awaitTermination(STOP_DELAY, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Returns the port the server is listening on.
+	 * @return the port
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * Returns the number of sessions created so far.
+	 * @return the number of sessions
+	 */
+	public int getSessionCount() {
+		return sessions.size();
+	}
+
+	/**
+	 * Returns the session named in the request, creating it on first use.
+	 * @param params the request parameters
+	 * @return the session's WolfScheduler
+	 * @throws IllegalArgumentException if there is no session parameter
+	 */
+	private WolfScheduler getSession(HashMap<String, String> params) {
+		return sessions.computeIfAbsent(param(params, "session"), id -> new WolfScheduler(catalog));
+	}
+
+	/**
+	 * Returns a required request parameter.
+	 * @param params the request parameters
+	 * @param name name of the parameter
+	 * @return the parameter's value
+	 * @throws IllegalArgumentException if the parameter is missing
+	 */
+	private static String param(HashMap<String, String> params, String name) {
+		String value = params.get(name);
+		if (value == null) {
+			throw new IllegalArgumentException("Missing parameter " + name + ".");
+		}
+		return value;
+	}
+
+	/**
+	 * Returns a required integer request parameter.
+	 * @param params the request parameters
+	 * @param name name of the parameter
+	 * @return the parameter's value
+	 * @throws IllegalArgumentException if the parameter is missing or not an integer
+	 */
+	private static int intParam(HashMap<String, String> params, String name) {
+		try {
+			return Integer.parseInt(param(params, name));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid parameter " + name + ".");
+		}
+	}
+
+	/**
+	 * Adds the form-encoded parameters in a query string or request body to a map.
+	 * @param encoded the encoded parameters, may be null
+	 * @param params the map to add to
+	 */
+	private static void parseParams(String encoded, HashMap<String, String> params) {
+		if (encoded == null || encoded.isEmpty()) {
+			return;
+		}
+		for (String pair : encoded.split("&")) {
+			int eq = pair.indexOf('=');
+			String name = eq < 0 ? pair : pair.substring(0, eq);
+			String value = eq < 0 ? "" : pair.substring(eq + 1);
+			params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Converts a 2D array of rows to a JSON array of arrays.
+	 * @param rows the rows to convert
+	 * @return the JSON text
+	 */
+	static String rows(String[][] rows) {
+		StringBuilder json = new StringBuilder("[");
+		for (int i = 0; i < rows.length; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append('[');
+			for (int j = 0; j < rows[i].length; j++) {
+				if (j > 0) {
+					json.append(',');
+				}
+				json.append(string(rows[i][j]));
+			}
+			json.append(']');
+		}
+		return json.append(']').toString();
+	}
+
+	/**
+	 * Converts a String to a quoted and escaped JSON string.
+	 * @param value the String to convert
+	 * @return the JSON text
+	 */
+	static String string(String value) {
+		StringBuilder json = new StringBuilder("\"");
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				json.append('\\').append(c);
+			} else if (c < ' ') {
+				json.append(String.format("\\u%04x", (int) c));
+			} else {
+				json.append(c);
+			}
+		}
+		return json.append('"').toString();
+	}
+
+	/**
+	 * Starts the service on localhost with a catalog file. The first argument is the
+	 * catalog file and the optional second argument is the port.
+	 * @param args command line arguments
+	 * @throws IOException if the port cannot be bound
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 1) {
+			System.err.println("Usage: WolfSchedulerServer catalog-file [port]");
+			return;
+		}
+		int port = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PORT;
+		int threads = THREADS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors();
+		WolfSchedulerServer service = new WolfSchedulerServer(new CourseCatalog(args[0]), port, threads);
+		service.start();
+		System.out.println("WolfScheduler listening on http://localhost:" + service.getPort());
+	}
+
+	/**
+	 * Handles one endpoint. Checks the request method, reads the parameters, and
+	 * writes the JSON result. An IllegalArgumentException from the scheduler is
+	 * reported as a 400 error and an IllegalStateException as a 404 error, each with
+	 * the exception's message.
+	 */
+	private abstract static class Endpoint implements HttpHandler {
+
+		/** Request method accepted by the endpoint */
+		private final String method;
+
+		/**
+		 * Constructs an Endpoint for a request method.
+		 * @param method the accepted request method
+		 */
+		Endpoint(String method) {
+			this.method = method;
+		}
+
+		/**
+		 * Handles a request to the endpoint.
+		 * @param exchange the request and response
+		 * @throws IOException if the response cannot be written
+		 */
+		@Override
+		public void handle(HttpExchange exchange) throws IOException {
+			int status = OK;
+			String body;
+			if (!exchange.getHttpContext().getPath().equals(exchange.getRequestURI().getPath())) {
+				status = NOT_FOUND;
+				body = error("Unknown endpoint.");
+			} else if (!method.equals(exchange.getRequestMethod())) {
+				status = BAD_METHOD;
+				body = error("Use " + method + ".");
+			} else {
+				try {
+					HashMap<String, String> params = new HashMap<String, String>();
+					parseParams(exchange.getRequestURI().getRawQuery(), params);
+					parseParams(readBody(exchange.getRequestBody()), params);
+					body = handle(params);
+				} catch (IllegalArgumentException e) {
+					status = BAD_REQUEST;
+					body = error(e.getMessage());
+				} catch (IllegalStateException e) {
+					status = NOT_FOUND;
+					body = error(e.getMessage());
+				}
+			}
+			byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+			exchange.sendResponseHeaders(status, bytes.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(bytes);
+			}
+		}
+
+		/**
+		 * Handles the parameters of a valid request.
+		 * @param params the request parameters
+		 * @return the JSON response
+		 */
+		protected abstract String handle(HashMap<String, String> params);
+
+		/**
+		 * Reads a request body as a String.
+		 * @param in the request body
+		 * @return the body
+		 * @throws IOException if the body cannot be read
+		 */
+		private static String readBody(InputStream in) throws IOException {
+			ByteArrayOutputStream body = new ByteArrayOutputStream();
+			in.transferTo(body);
+			return body.toString(StandardCharsets.UTF_8);
+		}
+
+		/**
+		 * Builds a JSON error response.
+		 * @param message the error message
+		 * @return the JSON text
+		 */
+		private static String error(String message) {
+			return "{\"error\":" + string(message) + "}";
+		}
+	}
+
+}
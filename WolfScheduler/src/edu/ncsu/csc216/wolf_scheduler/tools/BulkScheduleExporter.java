@@ -0,0 +1,229 @@
+package edu.ncsu.csc216.wolf_scheduler.tools;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.ActivityRecordEncoder;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Exports many schedules at once, each to its own file in an output directory.
+ * Exports run on a fixed number of threads fed from a bounded queue. When the queue
+ * is full the submitting thread runs the next export itself, so memory stays bounded
+ * no matter how many schedules are given. Each thread reuses one encoder for every
+ * schedule it writes. A report of throughput is returned when every export is done.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class BulkScheduleExporter {
+
+	/** Nanoseconds per second */
+	private static final double NANOS_PER_SECOND = 1e9;
+	/** Bytes per megabyte */
+	private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+	/** Directory the schedules are written to */
+	private final Path outputDir;
+	/** Number of export threads */
+	private final int threads;
+	/** Number of exports that may wait in the queue */
+	private final int queueCapacity;
+	/** Each export thread's reusable encoder */
+	private final ThreadLocal<ActivityRecordEncoder> encoders;
+	/** Students whose schedules failed in the last export, with the reason */
+	private final List<String[]> failures;
+
+	/**
+	 * Constructs a BulkScheduleExporter.
+	 * @param outputDir directory the schedules are written to
+	 * @param threads number of export threads
+	 * @param queueCapacity number of exports that may wait in the queue
+	 * @throws IllegalArgumentException if outputDir is null or a count is not positive
+	 */
+	public BulkScheduleExporter(String outputDir, int threads, int queueCapacity) {
+		if (outputDir == null || threads < 1 || queueCapacity < 1) {
+			throw new IllegalArgumentException("Invalid exporter.");
+		}
+		this.outputDir = Paths.get(outputDir);
+		this.threads = threads;
+		this.queueCapacity = queueCapacity;
+		this.encoders = ThreadLocal.withInitial(ActivityRecordEncoder::new);
+		this.failures = Collections.synchronizedList(new ArrayList<String[]>());
+	}
+
+	/**
+	 * Exports every schedule to a file named after its student and reports the
+	 * results. The report has rows for the number of schedules written and failed,
+	 * the bytes written, the elapsed seconds, schedules per second, and megabytes per
+	 * second. A schedule must not be changed while it is being exported.
+	 * @param schedules each student's schedule
+	 * @return a 2D array with a label and value in each row
+	 * @throws IOException if the output directory cannot be created
+	 * @throws InterruptedException if interrupted while waiting for the exports
+	 */
+	public String[][] export(Map<String, WolfScheduler> schedules) throws IOException, InterruptedException {
+		Files.createDirectories(outputDir);
+		failures.clear();
+		AtomicInteger written = new AtomicInteger();
+		AtomicLong bytes = new AtomicLong();
+		AtomicInteger threadCount = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<Runnable>(queueCapacity), r -> {
+					Thread t = new Thread(r, "schedule-exporter-" + threadCount.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				}, new ThreadPoolExecutor.CallerRunsPolicy());
+
+		long began = System.nanoTime();
+		try {
+			for (Map.Entry<String, WolfScheduler> entry : schedules.entrySet()) {
+				String student = entry.getKey();
+				WolfScheduler schedule = entry.getValue();
+				executor.execute(() -> {
+					File file = outputDir.resolve(student + ".txt").toFile();
+					try {
+						schedule.exportSchedule(file.getPath(), encoders.get());
+						bytes.addAndGet(file.length());
+						written.incrementAndGet();
+					} catch (IllegalArgumentException e) {
+						failures.add(new String[] {student, e.getMessage()});
+					} catch (RuntimeException e) {
+						failures.add(new String[] {student, e.toString()});
+					}
+				});
+			}
+		} finally {
+			executor.shutdown();
+		}
+		executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		double seconds = (System.nanoTime() - began) / NANOS_PER_SECOND;
+
+		return new String[][] {
+			{"schedules", "" + written.get()},
+			{"failed", "" + failures.size()},
+			{"bytes", "" + bytes.get()},
+			{"seconds", String.format("%.3f", seconds)},
+			{"schedules/s", String.format("%.1f", written.get() / seconds)},
+			{"MB/s", String.format("%.2f", bytes.get() / BYTES_PER_MB / seconds)}
+		};
+	}
+
+	/**
+	 * Returns the students whose schedules could not be written by the last export.
+	 * @return a 2D array with the student and error message in each row
+	 */
+	public String[][] getFailures() {
+		synchronized (failures) {
+			return failures.toArray(new String[failures.size()][]);
+		}
+	}
+
+	/**
+	 * Imports every saved schedule in a directory for archiving, naming each after
+	 * its file without a .txt extension. The schedules are imported against copies
+	 * of the catalog's Courses that have no seat limit, so archiving claims no seats
+	 * in the catalog and a full section does not drop a course from the archive. A
+	 * schedule is archived only if every non-blank line of its file was added, so one
+	 * that cannot be read, names a course missing from the catalog, or has fewer
+	 * activities scheduled than lines is skipped and added to skipped with the
+	 * reason, rather than archived in part.
+	 * @param catalog the catalog the schedules were saved against
+	 * @param scheduleDir the directory of saved schedules
+	 * @param skipped list the skipped schedules are added to, as the student and reason
+	 * @return each imported student's schedule
+	 * @throws IOException if the directory cannot be read
+	 */
+	public static TreeMap<String, WolfScheduler> importSchedules(CourseCatalog catalog, String scheduleDir,
+			List<String[]> skipped) throws IOException {
+		ArrayList<Course> uncapped = new ArrayList<Course>(catalog.size());
+		for (Course c : catalog.getCourses()) {
+			if (c != null) {
+				uncapped.add("A".equals(c.getMeetingDays())
+						? new Course(c.getName(), c.getTitle(), c.getSection(), c.getCredits(), c.getInstructorId(), "A")
+						: new Course(c.getName(), c.getTitle(), c.getSection(), c.getCredits(), c.getInstructorId(),
+								c.getMeetingDays(), c.getStartTime(), c.getEndTime()));
+			}
+		}
+		CourseCatalog archive = new CourseCatalog(uncapped);
+		File[] files = new File(scheduleDir).listFiles(File::isFile);
+		if (files == null) {
+			throw new IOException("Cannot read " + scheduleDir);
+		}
+		Arrays.sort(files);
+		TreeMap<String, WolfScheduler> schedules = new TreeMap<String, WolfScheduler>();
+		for (File f : files) {
+			String name = f.getName();
+			String student = name.endsWith(".txt") ? name.substring(0, name.length() - 4) : name;
+			WolfScheduler ws = new WolfScheduler(archive);
+			String reason = null;
+			try {
+				String[] results = ws.importSchedule(f.getPath());
+				for (String result : results) {
+					if (!result.isEmpty()) {
+						reason = result;
+						break;
+					}
+				}
+				if (reason == null && ws.getScheduledActivities().length != results.length) {
+					reason = "The schedule was not imported completely.";
+				}
+			} catch (IllegalArgumentException e) {
+				reason = e.getMessage();
+			}
+			if (reason == null) {
+				schedules.put(student, ws);
+			} else {
+				skipped.add(new String[] {student, reason});
+			}
+		}
+		return schedules;
+	}
+
+	/**
+	 * Archives saved schedules from the command line. Every file in the schedule
+	 * directory is imported with importSchedules() and exported again to the output
+	 * directory. Schedules skipped on import and schedules that fail to export are
+	 * counted and listed separately. The arguments are the catalog file, the schedule
+	 * directory, the output directory, and an optional number of threads.
+	 * @param args command line arguments
+	 * @throws IOException if a directory cannot be read or created
+	 * @throws InterruptedException if interrupted while waiting for the exports
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		if (args.length < 3) {
+			System.err.println("Usage: BulkScheduleExporter catalog-file schedule-dir output-dir [threads]");
+			return;
+		}
+		ArrayList<String[]> skipped = new ArrayList<String[]>();
+		TreeMap<String, WolfScheduler> schedules = importSchedules(new CourseCatalog(args[0]), args[1], skipped);
+		int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+		BulkScheduleExporter exporter = new BulkScheduleExporter(args[2], threads, threads * 4);
+		System.out.printf("%-12s %12s%n", "skipped", skipped.size());
+		for (String[] row : exporter.export(schedules)) {
+			System.out.printf("%-12s %12s%n", (Object[]) row);
+		}
+		for (String[] row : skipped) {
+			System.err.println(row[0] + ": not imported: " + row[1]);
+		}
+		for (String[] row : exporter.getFailures()) {
+			System.err.println(row[0] + ": not exported: " + row[1]);
+		}
+	}
+
+}
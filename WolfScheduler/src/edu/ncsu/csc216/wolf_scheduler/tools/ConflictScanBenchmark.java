@@ -0,0 +1,232 @@
+package edu.ncsu.csc216.wolf_scheduler.tools;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.ConflictException;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CatalogConflictScanner;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+
+/**
+ * Measures how fast each way of finding the catalog sections that conflict with an
+ * activity runs on a large generated catalog. A set of random events is checked
+ * against every section four ways:
+ * <ul>
+ * <li>strings: the comparison Activity.checkConflict() made before activities had
+ * time keys, matching meeting day characters pairwise and throwing a
+ * ConflictException for each conflict</li>
+ * <li>checkConflict: calling Activity.checkConflict() on each Course</li>
+ * <li>timeKeys: comparing each Course's time key with Activity.conflicts()</li>
+ * <li>columns: scanning the catalog's columns with CatalogConflictScanner</li>
+ * </ul>
+ * Each way runs once to warm up and is then timed. All four must find the same
+ * conflicts, so the counts in the report also check each other.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class ConflictScanBenchmark {
+
+	/** Meeting days a generated section may have */
+	private static final String[] SECTION_DAYS = {"M", "T", "W", "H", "F", "MW", "TH", "MWF", "A"};
+	/** Days a generated event may meet on */
+	private static final String EVENT_DAYS = "MTWHFSU";
+	/** Lengths in minutes a generated meeting may have */
+	private static final int[] LENGTHS = {50, 75, 110, 165};
+	/** Sections generated for each course name */
+	private static final int SECTIONS_PER_NAME = 1000;
+	/** Course numbers available under each department */
+	private static final int NUMBERS_PER_DEPARTMENT = 900;
+	/** Earliest generated start minute */
+	private static final int FIRST_START = 8 * 60;
+	/** Number of quarter hours a generated meeting may start in */
+	private static final int QUARTER_HOURS = 44;
+	/** Number of columns in a report row */
+	private static final int REPORT_COLUMNS = 5;
+	/** Nanoseconds per millisecond */
+	private static final double NANOS_PER_MILLI = 1e6;
+
+	/** Catalog of generated sections */
+	private final CourseCatalog catalog;
+	/** Events to check against the catalog */
+	private final Event[] queries;
+
+	/**
+	 * Constructs a ConflictScanBenchmark with a generated catalog and queries.
+	 * @param sections the number of sections in the catalog
+	 * @param queries the number of events to check
+	 * @param seed seed for the generated sections and events
+	 * @throws IllegalArgumentException if a count is not positive
+	 */
+	public ConflictScanBenchmark(int sections, int queries, long seed) {
+		if (sections < 1 || queries < 1) {
+			throw new IllegalArgumentException("Invalid benchmark.");
+		}
+		Random random = new Random(seed);
+		ArrayList<Course> courses = new ArrayList<Course>(sections);
+		for (int i = 0; i < sections; i++) {
+			courses.add(section(i, random));
+		}
+		this.catalog = new CourseCatalog(courses);
+		this.queries = new Event[queries];
+		for (int i = 0; i < queries; i++) {
+			StringBuilder days = new StringBuilder();
+			for (int d = 0; d < EVENT_DAYS.length(); d++) {
+				if (random.nextInt(3) == 0) {
+					days.append(EVENT_DAYS.charAt(d));
+				}
+			}
+			if (days.length() == 0) {
+				days.append(EVENT_DAYS.charAt(random.nextInt(EVENT_DAYS.length())));
+			}
+			int[] times = meetingTimes(random);
+			this.queries[i] = new Event("Query " + i, days.toString(), times[0], times[1], "");
+		}
+	}
+
+	/**
+	 * Generates the section at a position of the catalog. Names and sections are
+	 * derived from the position so that every section is unique.
+	 * @param i position of the section
+	 * @param random source of the section's meeting days and times
+	 * @return the section
+	 */
+	private static Course section(int i, Random random) {
+		int nameIndex = i / SECTIONS_PER_NAME;
+		String name = "CS" + (char) ('A' + nameIndex / NUMBERS_PER_DEPARTMENT % 26) + " "
+				+ (100 + nameIndex % NUMBERS_PER_DEPARTMENT);
+		String section = String.format("%03d", i % SECTIONS_PER_NAME);
+		String days = SECTION_DAYS[random.nextInt(SECTION_DAYS.length)];
+		if ("A".equals(days)) {
+			return new Course(name, "Generated Course", section, 3, "instructor", days);
+		}
+		int[] times = meetingTimes(random);
+		return new Course(name, "Generated Course", section, 3, "instructor", days, times[0], times[1]);
+	}
+
+	/**
+	 * Generates a start and end time on a quarter hour during the day.
+	 * @param random source of the times
+	 * @return the start and end time in military time
+	 */
+	private static int[] meetingTimes(Random random) {
+		int start = FIRST_START + 15 * random.nextInt(QUARTER_HOURS);
+		int end = start + LENGTHS[random.nextInt(LENGTHS.length)];
+		return new int[] {start / 60 * 100 + start % 60, end / 60 * 100 + end % 60};
+	}
+
+	/**
+	 * Runs each way of finding conflicts and reports the results. Each row of the
+	 * report contains the way's name, the number of queries, the total number of
+	 * conflicting sections found, the time in milliseconds, and the average time per
+	 * section checked in nanoseconds.
+	 * @return a 2D array with a row for each way
+	 */
+	public String[][] run() {
+		CatalogConflictScanner scanner = CatalogConflictScanner.forCatalog(catalog);
+		String[] names = {"strings", "checkConflict", "timeKeys", "columns"};
+		String[][] report = new String[names.length][REPORT_COLUMNS];
+		for (int way = 0; way < names.length; way++) {
+			scan(way, scanner);
+			long began = System.nanoTime();
+			long conflicts = scan(way, scanner);
+			long nanos = System.nanoTime() - began;
+			report[way] = new String[] {names[way], String.valueOf(queries.length), String.valueOf(conflicts),
+					String.format("%.1f", nanos / NANOS_PER_MILLI),
+					String.format("%.2f", (double) nanos / queries.length / catalog.size())};
+		}
+		return report;
+	}
+
+	/**
+	 * Checks every query against the catalog one way.
+	 * @param way 0 for strings, 1 for checkConflict, 2 for time keys, 3 for columns
+	 * @param scanner the catalog's conflict scanner
+	 * @return the total number of conflicting sections found
+	 */
+	private long scan(int way, CatalogConflictScanner scanner) {
+		long conflicts = 0;
+		for (Event query : queries) {
+			if (way == 3) {
+				conflicts += scanner.countConflicts(query);
+			} else if (way == 2) {
+				long key = query.getTimeKey();
+				for (int row = 0; row < catalog.size(); row++) {
+					if (Activity.conflicts(key, catalog.getCourse(row).getTimeKey())) {
+						conflicts++;
+					}
+				}
+			} else if (way == 1) {
+				for (int row = 0; row < catalog.size(); row++) {
+					try {
+						query.checkConflict(catalog.getCourse(row));
+					} catch (ConflictException e) {
+						conflicts++;
+					}
+				}
+			} else {
+				for (int row = 0; row < catalog.size(); row++) {
+					try {
+						checkConflictByDays(query, catalog.getCourse(row));
+					} catch (ConflictException e) {
+						conflicts++;
+					}
+				}
+			}
+		}
+		return conflicts;
+	}
+
+	/**
+	 * Checks two activities for a conflict the way Activity.checkConflict() did before
+	 * time keys, kept here as the benchmark's baseline.
+	 * @param activity the activity to check
+	 * @param other the activity to check against
+	 * @throws ConflictException if the activities conflict
+	 */
+	private static void checkConflictByDays(Activity activity, Activity other) throws ConflictException {
+		String currentMeetingDays = activity.getMeetingDays();
+		String compareMeetingDays = other.getMeetingDays();
+		int currentEndTime = activity.getEndTime();
+		int currentStartTime = activity.getStartTime();
+		int compareStartTime = other.getStartTime();
+		int compareEndTime = other.getEndTime();
+		for (int i = 0; i < currentMeetingDays.length(); i++) {
+			for (int j = 0; j < compareMeetingDays.length(); j++) {
+				if (currentMeetingDays.charAt(i) == compareMeetingDays.charAt(j)) {
+					if ("A".equals(compareMeetingDays) && "A".equals(currentMeetingDays)) {
+						break;
+					} else if (currentStartTime == compareStartTime && currentEndTime == compareEndTime) {
+						throw new ConflictException();
+					} else if (currentEndTime == compareStartTime || compareEndTime == currentStartTime) {
+						throw new ConflictException();
+					} else if (compareStartTime < currentEndTime && compareEndTime > currentStartTime) {
+						throw new ConflictException();
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Runs the benchmark from the command line. The arguments are the number of
+	 * sections, the number of queries, and an optional random seed.
+	 * @param args command line arguments
+	 */
+	public static void main(String[] args) {
+		if (args.length < 2) {
+			System.err.println("Usage: ConflictScanBenchmark sections queries [seed]");
+			return;
+		}
+		long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+		ConflictScanBenchmark benchmark = new ConflictScanBenchmark(Integer.parseInt(args[0]),
+				Integer.parseInt(args[1]), seed);
+		System.out.printf("%-16s %10s %14s %12s %12s%n", "method", "queries", "conflicts", "ms", "ns/section");
+		for (String[] row : benchmark.run()) {
+			System.out.printf("%-16s %10s %14s %12s %12s%n", (Object[]) row);
+		}
+	}
+
+}
@@ -0,0 +1,283 @@
+package edu.ncsu.csc216.wolf_scheduler.tools;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Simulates a registration rush against a shared catalog. Each simulated student
+ * runs on its own thread with its own WolfScheduler session and issues a fixed
+ * number of operations back to back, so the load is closed-loop: a student only
+ * sends the next request after the previous one returns. The mix of operations is
+ * weighted towards catalog lookups and course adds. Latency is recorded for every
+ * call and reported per operation as throughput and p50, p99, and p99.9 latency.
+ * A catalog lookup or add that draws a row with no valid course, as a lazily loaded
+ * catalog may have, is not issued. If a student's thread fails, run() reports it.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class RegistrationLoadDriver {
+
+	/** Names of the operations in the mix */
+	private static final String[] OPERATIONS = {"getCourseFromCatalog", "addCourseToSchedule",
+			"addEventToSchedule", "removeActivityFromSchedule", "exportSchedule"};
+	/** Relative weight of each operation in the mix */
+	private static final int[] WEIGHTS = {40, 25, 10, 15, 10};
+	/** Days an event may meet on */
+	private static final String EVENT_DAYS = "MTWHFSU";
+	/** Number of columns in a report row */
+	private static final int REPORT_COLUMNS = 6;
+	/** Nanoseconds per microsecond */
+	private static final double NANOS_PER_MICRO = 1000.0;
+	/** Nanoseconds per second */
+	private static final double NANOS_PER_SECOND = 1e9;
+
+	/** Catalog shared by every student */
+	private final CourseCatalog catalog;
+	/** Number of concurrent students */
+	private final int students;
+	/** Number of operations each student issues */
+	private final int operations;
+	/** Seed for the students' random choices */
+	private final long seed;
+
+	/**
+	 * Constructs a RegistrationLoadDriver.
+	 * @param catalog the catalog shared by every student
+	 * @param students the number of concurrent students
+	 * @param operations the number of operations each student issues
+	 * @param seed seed for the random operation mix
+	 * @throws IllegalArgumentException if the catalog is empty or a count is not positive
+	 */
+	public RegistrationLoadDriver(CourseCatalog catalog, int students, int operations, long seed) {
+		if (catalog == null || catalog.size() == 0 || students < 1 || operations < 1) {
+			throw new IllegalArgumentException("Invalid load.");
+		}
+		this.catalog = catalog;
+		this.students = students;
+		this.operations = operations;
+		this.seed = seed;
+	}
+
+	/**
+	 * Runs the load and reports the results. Each row of the report contains the
+	 * operation name, the number of calls, calls per second over the whole run, and
+	 * the p50, p99, and p99.9 latency in microseconds.
+	 * @return a 2D array with a row for each operation
+	 * @throws IOException if the export directory cannot be created
+	 * @throws InterruptedException if interrupted while waiting for the students
+	 * @throws IllegalStateException if a student's thread fails
+	 */
+	public String[][] run() throws IOException, InterruptedException {
+		Path exportDir = Files.createTempDirectory("wolf_scheduler_load");
+		AtomicReference<RuntimeException> failure = new AtomicReference<RuntimeException>();
+		long[][][] latencies = new long[students][][];
+		int[][] counts = new int[students][];
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[students];
+		for (int i = 0; i < students; i++) {
+			final int student = i;
+			threads[i] = new Thread(() -> {
+				latencies[student] = new long[OPERATIONS.length][];
+				for (int op = 0; op < OPERATIONS.length; op++) {
+					latencies[student][op] = new long[expectedCalls(op)];
+				}
+				counts[student] = new int[OPERATIONS.length];
+				File export = exportDir.resolve("student" + student + ".txt").toFile();
+				try {
+					start.await();
+					runStudent(new Random(seed + student), export, latencies[student], counts[student]);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} catch (RuntimeException e) {
+					failure.compareAndSet(null, e);
+				}
+			});
+			threads[i].start();
+		}
+
+		long began = System.nanoTime();
+		start.countDown();
+		for (Thread t : threads) {
+			t.join();
+		}
+		double seconds = (System.nanoTime() - began) / NANOS_PER_SECOND;
+
+		for (int i = 0; i < students; i++) {
+			Files.deleteIfExists(exportDir.resolve("student" + i + ".txt"));
+		}
+		Files.deleteIfExists(exportDir);
+		if (failure.get() != null) {
+			throw new IllegalStateException("Student failed.", failure.get());
+		}
+		return report(latencies, counts, seconds);
+	}
+
+	/**
+	 * Returns how many calls of an operation a student is expected to make, from the
+	 * operation's share of the mix, with room for a few more than its share.
+	 * @param op the operation
+	 * @return the initial size of the operation's latency array
+	 */
+	private int expectedCalls(int op) {
+		int totalWeight = 0;
+		for (int w : WEIGHTS) {
+			totalWeight += w;
+		}
+		long expected = (long) operations * WEIGHTS[op] / totalWeight;
+		return (int) Math.min(operations, expected + expected / 8 + 16);
+	}
+
+	/**
+	 * Issues one student's operations against a new session. Only the call being
+	 * measured is timed; the random choices for an event or a removal are made
+	 * before the clock starts.
+	 * @param random the student's random choices
+	 * @param export file the student exports to
+	 * @param latencies latencies recorded per operation, grown as needed
+	 * @param counts number of calls recorded per operation
+	 */
+	private void runStudent(Random random, File export, long[][] latencies, int[] counts) {
+		WolfScheduler ws = new WolfScheduler(catalog);
+		int totalWeight = 0;
+		for (int w : WEIGHTS) {
+			totalWeight += w;
+		}
+		for (int n = 0; n < operations; n++) {
+			int pick = random.nextInt(totalWeight);
+			int op = 0;
+			while (pick >= WEIGHTS[op]) {
+				pick -= WEIGHTS[op];
+				op++;
+			}
+			Course c = catalog.getCourse(random.nextInt(catalog.size()));
+			if (c == null && op < 2) {
+				continue;
+			}
+			int removeAt = 0;
+			int eventStart = 0;
+			String eventDays = null;
+			if (op == 2) {
+				eventStart = random.nextInt(22) * 100;
+				eventDays = "" + EVENT_DAYS.charAt(random.nextInt(EVENT_DAYS.length()));
+			} else if (op == 3) {
+				int scheduled = ws.getScheduledActivities().length;
+				removeAt = scheduled == 0 ? 0 : random.nextInt(scheduled);
+			}
+			long before = System.nanoTime();
+			try {
+				switch (op) {
+				case 0:
+					ws.getCourseFromCatalog(c.getName(), c.getSection());
+					break;
+				case 1:
+					ws.addCourseToSchedule(c.getName(), c.getSection());
+					break;
+				case 2:
+					ws.addEventToSchedule("Event " + n, eventDays, eventStart, eventStart + 59, "Load test event");
+					break;
+				case 3:
+					ws.removeActivityFromSchedule(removeAt);
+					break;
+				default:
+					ws.exportSchedule(export.getPath());
+					break;
+				}
+			} catch (IllegalArgumentException e) {
+				// Duplicates, conflicts, and full courses are part of a realistic rush
+			}
+			long latency = System.nanoTime() - before;
+			if (counts[op] == latencies[op].length) {
+				latencies[op] = Arrays.copyOf(latencies[op], Math.min(operations, counts[op] * 2));
+			}
+			latencies[op][counts[op]++] = latency;
+		}
+		ws.resetSchedule();
+	}
+
+	/**
+	 * Merges every student's latencies and builds the report rows.
+	 * @param latencies latencies recorded per student and operation
+	 * @param counts number of calls recorded per student and operation
+	 * @param seconds length of the run in seconds
+	 * @return a 2D array with a row for each operation
+	 */
+	private String[][] report(long[][][] latencies, int[][] counts, double seconds) {
+		String[][] rows = new String[OPERATIONS.length][REPORT_COLUMNS];
+		for (int op = 0; op < OPERATIONS.length; op++) {
+			int total = 0;
+			for (int[] c : counts) {
+				total += c[op];
+			}
+			long[] merged = new long[total];
+			int size = 0;
+			for (int s = 0; s < students; s++) {
+				System.arraycopy(latencies[s][op], 0, merged, size, counts[s][op]);
+				size += counts[s][op];
+			}
+			Arrays.sort(merged);
+			rows[op][0] = OPERATIONS[op];
+			rows[op][1] = "" + total;
+			rows[op][2] = String.format("%.1f", total / seconds);
+			rows[op][3] = micros(percentile(merged, 0.50));
+			rows[op][4] = micros(percentile(merged, 0.99));
+			rows[op][5] = micros(percentile(merged, 0.999));
+		}
+		return rows;
+	}
+
+	/**
+	 * Returns a percentile of sorted latencies using the nearest-rank method.
+	 * @param sorted latencies in ascending order
+	 * @param fraction the percentile as a fraction
+	 * @return the latency at the percentile, or 0 if there are none
+	 */
+	private static long percentile(long[] sorted, double fraction) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int rank = (int) Math.ceil(fraction * sorted.length);
+		return sorted[Math.max(rank, 1) - 1];
+	}
+
+	/**
+	 * Formats nanoseconds as microseconds.
+	 * @param nanos the time in nanoseconds
+	 * @return the time in microseconds
+	 */
+	private static String micros(long nanos) {
+		return String.format("%.1f", nanos / NANOS_PER_MICRO);
+	}
+
+	/**
+	 * Runs a registration rush from the command line. The arguments are the catalog
+	 * file, the number of students, the number of operations per student, and an
+	 * optional random seed.
+	 * @param args command line arguments
+	 * @throws IOException if the export directory cannot be created
+	 * @throws InterruptedException if interrupted while waiting for the students
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		if (args.length < 3) {
+			System.err.println("Usage: RegistrationLoadDriver catalog-file students operations [seed]");
+			return;
+		}
+		long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+		RegistrationLoadDriver driver = new RegistrationLoadDriver(new CourseCatalog(args[0]),
+				Integer.parseInt(args[1]), Integer.parseInt(args[2]), seed);
+		System.out.printf("%-28s %10s %12s %10s %10s %10s%n", "operation", "calls", "calls/s", "p50 us", "p99 us", "p99.9 us");
+		for (String[] row : driver.run()) {
+			System.out.printf("%-28s %10s %12s %10s %10s %10s%n", (Object[]) row);
+		}
+	}
+
+}
@@ -9,6 +9,9 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
 import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
@@ -23,14 +26,20 @@ import javax.swing.JScrollPane;
 import javax.swing.JTable;
 import javax.swing.JTextField;
 import javax.swing.ListSelectionModel;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import javax.swing.border.Border;
 import javax.swing.border.EtchedBorder;
 import javax.swing.border.TitledBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
 import javax.swing.table.AbstractTableModel;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CatalogSearchIndex;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
 import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
 
 /**
@@ -51,6 +60,10 @@ public class WolfSchedulerGUI extends JFrame {
 	private static final String SCHEDULER_PANEL = "SchedulerPanel";
 	/** Constant to identify SchedulePanel for {@link CardLayout}. */
 	private static final String SCHEDULE_PANEL = "SchedulePanel";
+	/** Milliseconds to wait after the last keystroke before filtering the catalog */
+	private static final int FILTER_DELAY = 250;
+	/** Number of catalog rows the catalog table reads at a time */
+	private static final int CATALOG_WINDOW = 128;
 	/** Scheduler panel */
 	private SchedulerPanel pnlScheduler;
 	/** Schedule panel */
@@ -238,6 +251,16 @@ public class WolfSchedulerGUI extends JFrame {
 		private JButton btnAddEvent;
 		/** Panel for adding event */
 		private JPanel pnlAddEvent;
+		/** Text field for filtering the catalog */
+		private JTextField txtFilter;
+		/** Timer that runs the filter once typing pauses */
+		private Timer filterTimer;
+		/** Thread that runs catalog filters off the event dispatch thread */
+		private ExecutorService filterExecutor;
+		/** The filter that is running, if any */
+		private Future<?> filterTask;
+		/** Number of filters started, used to discard the results of superseded filters */
+		private int filterGeneration;
 		
 		
 		/**
@@ -284,6 +307,45 @@ public class WolfSchedulerGUI extends JFrame {
 			pnlActions.setBorder(borderActions);
 			pnlActions.setToolTipText("Scheduler Actions");
 						
+			//Set up Catalog filter
+			txtFilter = new JTextField(20);
+			txtFilter.setToolTipText("Filter by name, title, or instructor");
+			filterTimer = new Timer(FILTER_DELAY, new ActionListener() {
+
+				@Override
+				public void actionPerformed(ActionEvent e) {
+					runFilter();
+				}
+				
+			});
+			filterTimer.setRepeats(false);
+			filterExecutor = Executors.newSingleThreadExecutor(r -> {
+				Thread t = new Thread(r, "catalog-filter");
+				t.setDaemon(true);
+				return t;
+			});
+			txtFilter.getDocument().addDocumentListener(new DocumentListener() {
+
+				@Override
+				public void insertUpdate(DocumentEvent e) {
+					filterTimer.restart();
+				}
+
+				@Override
+				public void removeUpdate(DocumentEvent e) {
+					filterTimer.restart();
+				}
+
+				@Override
+				public void changedUpdate(DocumentEvent e) {
+					filterTimer.restart();
+				}
+				
+			});
+			JPanel pnlFilter = new JPanel(new BorderLayout());
+			pnlFilter.add(new JLabel("Filter: "), BorderLayout.WEST);
+			pnlFilter.add(txtFilter, BorderLayout.CENTER);
+			
 			//Set up Catalog table
 			catalogTableModel = new CourseTableModel(true);
 			tableCatalog = new JTable(catalogTableModel) {
@@ -310,6 +372,9 @@ public class WolfSchedulerGUI extends JFrame {
 
 				@Override
 				public void valueChanged(ListSelectionEvent e) {
+					if (tableCatalog.getSelectedRow() == -1 || tableCatalog.getValueAt(tableCatalog.getSelectedRow(), 0) == null) {
+						return;
+					}
 					String name = tableCatalog.getValueAt(tableCatalog.getSelectedRow(), 0).toString();
 					String section = tableCatalog.getValueAt(tableCatalog.getSelectedRow(), 1).toString();
 					Course c = scheduler.getCourseFromCatalog(name, section);
@@ -323,6 +388,9 @@ public class WolfSchedulerGUI extends JFrame {
 			TitledBorder borderCatalog = BorderFactory.createTitledBorder(lowerEtched, "Course Catalog");
 			scrollCatalog.setBorder(borderCatalog);
 			scrollCatalog.setToolTipText("Course Catalog");
+			JPanel pnlCatalog = new JPanel(new BorderLayout());
+			pnlCatalog.add(pnlFilter, BorderLayout.NORTH);
+			pnlCatalog.add(scrollCatalog, BorderLayout.CENTER);
 			
 			//Set up Schedule table
 			scheduleTableModel = new CourseTableModel(false);
@@ -500,7 +568,7 @@ public class WolfSchedulerGUI extends JFrame {
 			pnlAddEvent.setBorder(borderAddEvent);
 			pnlAddEvent.setToolTipText("AddEvent");
 			
-			add(scrollCatalog);
+			add(pnlCatalog);
 			add(pnlActions);
 			add(scrollSchedule);
 			add(pnlCourseDetails);
@@ -666,6 +734,32 @@ public class WolfSchedulerGUI extends JFrame {
 			scheduleTableModel.updateData();
 		}
 		
+		/**
+		 * Starts filtering the catalog by the text of the filter field. The search runs
+		 * on the filter thread against the catalog the session is reading now, and its
+		 * rows are shown once it finishes unless a newer filter has started since. A
+		 * filter that is still running when a newer one starts is cancelled.
+		 */
+		private void runFilter() {
+			filterTimer.stop();
+			if (filterTask != null) {
+				filterTask.cancel(true);
+			}
+			final int generation = ++filterGeneration;
+			final String query = txtFilter.getText();
+			final CourseCatalog catalog = scheduler.getCatalog();
+			filterTask = filterExecutor.submit(() -> {
+				int[] rows = query.trim().isEmpty() ? null : CatalogSearchIndex.forCatalog(catalog).search(query);
+				if (!Thread.currentThread().isInterrupted()) {
+					SwingUtilities.invokeLater(() -> {
+						if (generation == filterGeneration) {
+							catalogTableModel.setRows(catalog, rows);
+						}
+					});
+				}
+			});
+		}
+		
 		/**
 		 * Updates the pnlCourseDetails with full information about the most
 		 * recently selected course.
@@ -697,6 +791,14 @@ public class WolfSchedulerGUI extends JFrame {
 			private Object [][] data;
 			/** Boolean flag if the model applies to the catalog or schedule */
 			private boolean catalog;
+			/** Catalog shown by a catalog model */
+			private CourseCatalog view;
+			/** Catalog rows shown in the table, or null to show every row */
+			private int [] rows;
+			/** Table row of the first row in the window */
+			private int windowStart;
+			/** Values of the catalog rows read most recently, around the visible rows */
+			private Object [][] window = new Object[0][];
 			
 			/**
 			 * Constructs the {@link CourseTableModel} by requesting the latest information
@@ -721,6 +823,9 @@ public class WolfSchedulerGUI extends JFrame {
 			 * @return the number of rows in the table.
 			 */
 			public int getRowCount() {
+				if (catalog) {
+					return rows == null ? view.size() : rows.length;
+				}
 				if (data == null) 
 					return 0;
 				return data.length;
@@ -742,6 +847,16 @@ public class WolfSchedulerGUI extends JFrame {
 			 * @return the data at the given location.
 			 */
 			public Object getValueAt(int row, int col) {
+				if (catalog) {
+					if (row < 0 || row >= getRowCount()) {
+						return null;
+					}
+					if (row < windowStart || row >= windowStart + window.length) {
+						loadWindow(row);
+					}
+					Object [] values = window[row - windowStart];
+					return values == null ? null : values[col];
+				}
 				if (data == null)
 					return null;
 				try {
@@ -762,12 +877,53 @@ public class WolfSchedulerGUI extends JFrame {
 				fireTableCellUpdated(row, col);
 			}
 			
+			/**
+			 * Shows the given rows of a catalog in place of the rows shown now.
+			 * @param view catalog the rows belong to
+			 * @param rows catalog rows to show, or null to show every row
+			 */
+			private void setRows(CourseCatalog view, int [] rows) {
+				this.view = view;
+				this.rows = rows;
+				windowStart = 0;
+				window = new Object[0][];
+				fireTableDataChanged();
+			}
+			
+			/**
+			 * Reads a window of catalog rows around a table row. The window reaches a little
+			 * before the row and mostly after it, so scrolling in either direction is served
+			 * from the window until it moves past its edge.
+			 * @param row table row the window must hold
+			 */
+			private void loadWindow(int row) {
+				windowStart = Math.max(0, row - CATALOG_WINDOW / 4);
+				if (rows == null) {
+					window = view.getCourseCatalog(windowStart, CATALOG_WINDOW);
+				} else {
+					window = new Object[Math.min(CATALOG_WINDOW, rows.length - windowStart)][];
+					for (int i = 0; i < window.length; i++) {
+						Course c = view.getCourse(rows[windowStart + i]);
+						window[i] = c == null ? null : c.getShortDisplayArray();
+					}
+				}
+			}
+			
 			/**
 			 * Updates the given model with {@link Course} information from the {@link WolfScheduler}.
+			 * A catalog model reads a window of rows from the catalog as they are shown, and only changes
+			 * when the session moves to a new catalog, which also runs the filter again.
 			 */
 			private void updateData() {
 				if (catalog) {
-					data = scheduler.getCourseCatalog();
+					CourseCatalog latest = scheduler.getCatalog();
+					if (latest != view) {
+						boolean first = view == null;
+						setRows(latest, null);
+						if (!first) {
+							runFilter();
+						}
+					}
 				} else {
 					data = scheduler.getScheduledActivities();
 				}
@@ -78,5 +78,68 @@ class ActivityTest {
 		assertDoesNotThrow(() -> a1.checkConflict(a2));
 		assertDoesNotThrow(() -> a2.checkConflict(a1));
 	}
-
+	
+	/**
+	 * Tests the packed time key and conflicts between keys.
+	 */
+	@Test
+	public void testTimeKey() {
+		Activity a1 = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1330, 1445);
+		Activity a2 = new Event("Exercise", "WF", 1445, 1530, "Gym");
+		Activity a3 = new Event("Dinner", "UMTWHFS", 1800, 1900, "Home");
+		Activity arranged = new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A");
+		
+		long key = a1.getTimeKey();
+		assertEquals(0b101, Activity.getDayMask(key));
+		assertEquals(13 * 60 + 30, Activity.getStartMinute(key));
+		assertEquals(14 * 60 + 45, Activity.getEndMinute(key));
+		assertFalse(Activity.hasUnknownDays(key));
+		assertEquals(0x7F, Activity.getDayMask(a3.getTimeKey()));
+		assertEquals(0, Activity.getDayMask(arranged.getTimeKey()));
+		
+		assertTrue(Activity.conflicts(a1.getTimeKey(), a2.getTimeKey()));
+		assertFalse(Activity.conflicts(a1.getTimeKey(), a3.getTimeKey()));
+		assertFalse(Activity.conflicts(arranged.getTimeKey(), arranged.getTimeKey()));
+		assertTrue(a1.getTimeKey() < a2.getTimeKey());
+		
+		a1.setMeetingDaysAndTime("TH", 1330, 1445);
+		assertEquals(0b1010, Activity.getDayMask(a1.getTimeKey()));
+		assertFalse(Activity.conflicts(a1.getTimeKey(), a2.getTimeKey()));
+	}
+	
+	/**
+	 * Tests that activities with days outside the week fall back to comparing days.
+	 */
+	@Test
+	public void testTimeKeyUnknownDays() {
+		Activity odd = new Activity("Odd", "MX", 900, 1000) {
+			@Override
+			public String[] getShortDisplayArray() {
+				return new String[0];
+			}
+			
+			@Override
+			public String[] getLongDisplayArray() {
+				return new String[0];
+			}
+			
+			@Override
+			public void writeTo(Appendable out) {
+				// Nothing to write
+			}
+			
+			@Override
+			public boolean isDuplicate(Activity activity) {
+				return false;
+			}
+		};
+		Activity monday = new Event("Meeting", "M", 930, 1030, "Office");
+		Activity tuesday = new Event("Meeting", "T", 930, 1030, "Office");
+		
+		assertTrue(Activity.hasUnknownDays(odd.getTimeKey()));
+		assertEquals(0b1, Activity.getDayMask(odd.getTimeKey()));
+		assertThrows(ConflictException.class, () -> odd.checkConflict(monday));
+		assertThrows(ConflictException.class, () -> monday.checkConflict(odd));
+		assertDoesNotThrow(() -> odd.checkConflict(tuesday));
+	}
 }
@@ -239,6 +239,41 @@ public class CourseTest {
 		assertEquals("Invalid credits.", exception.getMessage(), "Incorrect exception thrown with invalid input - " + invalid);
 	}
 
+	/**
+	 * Tests setCapacity() and claiming and releasing seats.
+	 */
+	@Test
+	public void testCapacity() {
+		Course c = new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME);
+		assertFalse(c.hasCapacity());
+		assertEquals(-1, c.getCapacity());
+		for (int i = 0; i < 100; i++) {
+			assertTrue(c.claimSeat());
+		}
+		assertEquals(100, c.getEnrollment());
+		
+		Course limited = new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME);
+		limited.setCapacity(2);
+		assertTrue(limited.hasCapacity());
+		assertEquals(2, limited.getCapacity());
+		assertTrue(limited.claimSeat());
+		assertTrue(limited.claimSeat());
+		assertFalse(limited.claimSeat());
+		assertEquals(2, limited.getEnrollment());
+		limited.releaseSeat();
+		assertTrue(limited.claimSeat());
+		limited.releaseSeat();
+		limited.releaseSeat();
+		limited.releaseSeat();
+		assertEquals(0, limited.getEnrollment());
+		
+		// Capacity is not part of equality
+		assertEquals(c, limited);
+		
+		Exception exception = assertThrows(IllegalArgumentException.class, () -> limited.setCapacity(-1));
+		assertEquals("Invalid capacity.", exception.getMessage());
+	}
+	
 	/**
 	 * Tests setInstructorId().
 	 */
@@ -0,0 +1,55 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the ActivityRecordEncoder class.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class ActivityRecordEncoderTest {
+
+	/**
+	 * Tests that encoded records match toString() when the buffer fills many times.
+	 * @throws IOException if encoding fails
+	 */
+	@Test
+	public void testEncode() throws IOException {
+		Activity[] activities = {
+			new Course("CSC 116", "Intro to Programming - Java", "003", 3, "spbalik", "MW", 1250, 1440),
+			new Course("CSC 216", "Software Development Fundamentals", "601", 3, "jctetter", "A"),
+			new Event("Caf\u00e9 meetup", "UMTHFS", 0, 5, "Espresso \u2615 with a long description " + "x".repeat(300))
+		};
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		WritableByteChannel out = Channels.newChannel(bytes);
+		ActivityRecordEncoder encoder = new ActivityRecordEncoder(16);
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 3; i++) {
+			for (Activity a : activities) {
+				encoder.encode(a, out);
+				expected.append(a.toString()).append(System.lineSeparator());
+			}
+		}
+		assertTrue(encoder.getBufferedBytes() > 0);
+		encoder.flush(out);
+		assertEquals(0, encoder.getBufferedBytes());
+		assertEquals(expected.toString(), new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+
+		assertEquals("CSC 216,Software Development Fundamentals,601,3,jctetter,A", activities[1].toString());
+		assertTrue(activities[2].toString().startsWith("Caf\u00e9 meetup,UMTHFS,0,5,Espresso"));
+		assertThrows(IllegalArgumentException.class, () -> new ActivityRecordEncoder(8));
+	}
+
+}
@@ -1,13 +1,23 @@
 package edu.ncsu.csc216.wolf_scheduler.io;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
@@ -60,6 +70,121 @@ public class ActivityRecordIOTest {
 		checkFiles("test-files/expected_activity_records.txt", "test-files/actual_activity_records.txt");
 	}
 
+	/**
+	 * Tests that writeActivityRecords() replaces an existing file without leaving a
+	 * temporary file behind, and reports a file that cannot be written.
+	 * @throws IOException if the test directory cannot be used
+	 */
+	@Test
+	public void testWriteActivityRecordsReplace() throws IOException {
+		Path dir = Files.createTempDirectory("activity_records");
+		Path file = dir.resolve("schedule.txt");
+		Files.writeString(file, "old contents that are longer than the new schedule\n".repeat(100));
+		ArrayList<Activity> activities = new ArrayList<Activity>();
+		activities.add(new Event("Exercise", "UMTHFS", 800, 900, "Cardio with rest day on Wednesday."));
+
+		ActivityRecordIO.writeActivityRecords(file.toString(), activities);
+		assertEquals(List.of(activities.get(0).toString()), Files.readAllLines(file));
+		try (Stream<Path> files = Files.list(dir)) {
+			assertEquals(1, files.count());
+		}
+
+		assertThrows(IOException.class,
+				() -> ActivityRecordIO.writeActivityRecords(dir.resolve("missing/schedule.txt").toString(), activities));
+		Files.delete(file);
+		Files.delete(dir);
+	}
+
+	/**
+	 * Tests that replacing a file keeps its permissions, that a new file gets the
+	 * default permissions, and that a symbolic link is written through rather than
+	 * replaced.
+	 * @throws IOException if the test directory cannot be used
+	 */
+	@Test
+	public void testWriteActivityRecordsPermissions() throws IOException {
+		assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+		Path dir = Files.createTempDirectory("activity_records");
+		Path file = dir.resolve("schedule.txt");
+		Path plain = dir.resolve("plain.txt");
+		Path link = dir.resolve("link.txt");
+		ArrayList<Activity> activities = new ArrayList<Activity>();
+		activities.add(new Event("Exercise", "MWF", 800, 900, "Cardio"));
+		try {
+			ActivityRecordIO.writeActivityRecords(file.toString(), activities);
+			Files.createFile(plain);
+			assertEquals(Files.getPosixFilePermissions(plain), Files.getPosixFilePermissions(file));
+
+			Set<PosixFilePermission> shared = PosixFilePermissions.fromString("rw-rw-r--");
+			Files.setPosixFilePermissions(file, shared);
+			ActivityRecordIO.writeActivityRecords(file.toString(), activities);
+			assertEquals(shared, Files.getPosixFilePermissions(file));
+
+			Files.createSymbolicLink(link, file.getFileName());
+			activities.add(new Event("Lunch", "MW", 1200, 1230, ""));
+			ActivityRecordIO.writeActivityRecords(link.toString(), activities);
+			assertTrue(Files.isSymbolicLink(link));
+			assertEquals(2, Files.readAllLines(file).size());
+			assertEquals(shared, Files.getPosixFilePermissions(file));
+		} finally {
+			Files.deleteIfExists(link);
+			Files.deleteIfExists(plain);
+			Files.deleteIfExists(file);
+			Files.delete(dir);
+		}
+	}
+
+	/**
+	 * Tests readActivityRecords() with courses resolved through a catalog lookup.
+	 * @throws IOException if the file cannot be read
+	 */
+	@Test
+	public void testReadActivityRecords() throws IOException {
+		ArrayList<Course> catalog = CourseRecordIO.readCourseRecords("test-files/course_records.txt");
+		ArrayList<Activity> activities = ActivityRecordIO.readActivityRecords("test-files/import_schedule.txt", (name, section) -> {
+			for (Course c : catalog) {
+				if (c.getName().equals(name) && c.getSection().equals(section)) {
+					return c;
+				}
+			}
+			return null;
+		});
+		assertEquals(6, activities.size());
+		assertSame(catalog.get(3), activities.get(0));
+		assertEquals(new Event("Exercise", "SU", 800, 900, "Cardio, then stretching"), activities.get(1));
+		assertEquals("Cardio, then stretching", ((Event) activities.get(1)).getEventDetails());
+		assertSame(catalog.get(10), activities.get(2));
+		// CSC 492 is not in the catalog and the next line is not a record at all
+		assertNull(activities.get(3));
+		assertNull(activities.get(4));
+		assertSame(catalog.get(9), activities.get(5));
+
+		assertThrows(IOException.class, () -> ActivityRecordIO.readActivityRecords("test-files/no_such_file.txt", (name, section) -> null));
+	}
+
+	/**
+	 * Tests that records with non-ASCII text are written as UTF-8 and read back
+	 * unchanged whatever the platform's default charset is.
+	 * @throws IOException if the test directory cannot be used
+	 */
+	@Test
+	public void testNonAsciiRoundTrip() throws IOException {
+		Path dir = Files.createTempDirectory("activity_records");
+		Path file = dir.resolve("schedule.txt");
+		ArrayList<Activity> activities = new ArrayList<Activity>();
+		activities.add(new Event("Caf\u00e9 \u5348\u9910", "MW", 1200, 1230, "Cr\u00e8me br\u00fbl\u00e9e, \u00fcber gut"));
+		try {
+			ActivityRecordIO.writeActivityRecords(file.toString(), activities);
+			assertEquals(List.of(activities.get(0).toString()), Files.readAllLines(file, StandardCharsets.UTF_8));
+			ArrayList<Activity> read = ActivityRecordIO.readActivityRecords(file.toString(), (name, section) -> null);
+			assertEquals(activities, read);
+			assertEquals("Cr\u00e8me br\u00fbl\u00e9e, \u00fcber gut", ((Event) read.get(0)).getEventDetails());
+		} finally {
+			Files.deleteIfExists(file);
+			Files.delete(dir);
+		}
+	}
+
 	/**
 	 * Helper method to compare two files for the same contents
 	 * @param expFile expected output
@@ -0,0 +1,40 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the CourseChange class.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class CourseChangeTest {
+
+	/**
+	 * Tests constructing add, modify, and remove changes.
+	 */
+	@Test
+	public void testCourseChange() {
+		Course c = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1330, 1445);
+		CourseChange add = new CourseChange(CourseChange.ADD, c);
+		assertEquals("add", add.getOperation());
+		assertEquals("CSC 216", add.getName());
+		assertEquals("001", add.getSection());
+		assertSame(c, add.getCourse());
+		
+		assertEquals("modify", new CourseChange(CourseChange.MODIFY, c).getOperation());
+		
+		CourseChange remove = new CourseChange("CSC 216", "002");
+		assertEquals("remove", remove.getOperation());
+		assertEquals("002", remove.getSection());
+		assertNull(remove.getCourse());
+		
+		assertThrows(IllegalArgumentException.class, () -> new CourseChange(CourseChange.REMOVE, c));
+		assertThrows(IllegalArgumentException.class, () -> new CourseChange(CourseChange.ADD, (Course) null));
+		assertThrows(IllegalArgumentException.class, () -> new CourseChange("CSC 216", (String) null));
+	}
+
+}
@@ -5,14 +5,20 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.Before;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Scanner;
+import java.util.zip.GZIPOutputStream;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
@@ -109,6 +115,116 @@ public class CourseRecordIOTest {
 		}
 	}
 	
+	/**
+	 * Tests reading course records with an optional capacity column.
+	 */
+	@Test
+	public void testReadCourseRecordsWithCapacity() {
+		try {
+			ArrayList<Course> courses = CourseRecordIO.readCourseRecords("test-files/capacity_course_records.txt");
+			assertEquals(4, courses.size());
+			assertEquals(2, courses.get(0).getCapacity());
+			assertFalse(courses.get(1).hasCapacity());
+			assertEquals(1, courses.get(2).getCapacity());
+			assertEquals("A", courses.get(2).getMeetingDays());
+			assertEquals(0, courses.get(3).getCapacity());
+			assertEquals("CSC 116,Intro to Programming - Java,001,3,jdyoung2,MW,910,1100", courses.get(0).toString());
+		} catch (FileNotFoundException e) {
+			fail("Unexpected error reading capacity_course_records.txt");
+		}
+	}
+	
+	/**
+	 * Tests reading course records from a Reader, a gzip compressed stream, a Path,
+	 * and standard input.
+	 * @throws IOException if the records cannot be read
+	 */
+	@Test
+	public void testReadCourseRecordsStreams() throws IOException {
+		byte[] plain = Files.readAllBytes(Path.of(validTestFile));
+		ArrayList<Course> expected = CourseRecordIO.readCourseRecords(validTestFile);
+		assertEquals(13, expected.size());
+		
+		assertEquals(expected, CourseRecordIO.readCourseRecords(new StringReader(new String(plain, StandardCharsets.UTF_8))));
+		assertEquals(expected, CourseRecordIO.readCourseRecords(new ByteArrayInputStream(plain)));
+		assertEquals(expected, CourseRecordIO.readCourseRecords(Path.of(validTestFile)));
+		
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+			gzip.write(plain);
+		}
+		assertEquals(expected, CourseRecordIO.readCourseRecords(new ByteArrayInputStream(compressed.toByteArray())));
+		Path gzipFile = Files.createTempFile("course_records", ".txt.gz");
+		try {
+			Files.write(gzipFile, compressed.toByteArray());
+			assertEquals(expected, CourseRecordIO.readCourseRecords(gzipFile.toString()));
+		} finally {
+			Files.delete(gzipFile);
+		}
+		
+		InputStream stdin = System.in;
+		try {
+			System.setIn(new ByteArrayInputStream(compressed.toByteArray()));
+			assertEquals(expected, CourseRecordIO.readCourseRecords(CourseRecordIO.STDIN));
+		} finally {
+			System.setIn(stdin);
+		}
+		
+		assertEquals(0, CourseRecordIO.readCourseRecords(new ByteArrayInputStream(new byte[0])).size());
+		assertThrows(FileNotFoundException.class, () -> CourseRecordIO.readCourseRecords("test-files/no_such_file.txt"));
+	}
+	
+	/**
+	 * Tests readCourseChanges().
+	 */
+	@Test
+	public void testReadCourseChanges() {
+		try {
+			ArrayList<CourseChange> changes = CourseRecordIO.readCourseChanges("test-files/course_changes.txt");
+			assertEquals(6, changes.size());
+			assertEquals(CourseChange.MODIFY, changes.get(0).getOperation());
+			assertEquals("CSC 216,Software Development Fundamentals,001,3,sesmith5,MW,1500,1615", changes.get(0).getCourse().toString());
+			assertEquals(CourseChange.REMOVE, changes.get(1).getOperation());
+			assertEquals("CSC 116", changes.get(1).getName());
+			assertEquals("002", changes.get(1).getSection());
+			assertEquals("601", changes.get(2).getSection());
+			assertEquals(40, changes.get(3).getCourse().getCapacity());
+		} catch (FileNotFoundException e) {
+			fail("Unexpected error reading course_changes.txt");
+		}
+		assertThrows(FileNotFoundException.class, () -> CourseRecordIO.readCourseChanges("test-files/not_a_file.txt"));
+	}
+	
+	/**
+	 * Tests reading a gzip compressed change file and changes from a Reader.
+	 * @throws IOException if the changes cannot be read
+	 */
+	@Test
+	public void testReadCourseChangesCompressed() throws IOException {
+		byte[] plain = Files.readAllBytes(Path.of("test-files/course_changes.txt"));
+		ArrayList<CourseChange> expected = CourseRecordIO.readCourseChanges("test-files/course_changes.txt");
+		assertEquals(expected.size(),
+				CourseRecordIO.readCourseChanges(new StringReader(new String(plain, StandardCharsets.UTF_8))).size());
+		
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+			gzip.write(plain);
+		}
+		Path gzipFile = Files.createTempFile("course_changes", ".txt.gz");
+		try {
+			Files.write(gzipFile, compressed.toByteArray());
+			ArrayList<CourseChange> changes = CourseRecordIO.readCourseChanges(gzipFile.toString());
+			assertEquals(expected.size(), changes.size());
+			for (int i = 0; i < expected.size(); i++) {
+				assertEquals(expected.get(i).getOperation(), changes.get(i).getOperation());
+				assertEquals(expected.get(i).getName(), changes.get(i).getName());
+				assertEquals(expected.get(i).getSection(), changes.get(i).getSection());
+			}
+		} finally {
+			Files.delete(gzipFile);
+		}
+	}
+	
 	/**
 	 * Tests writeCourseRecords()
 	 */
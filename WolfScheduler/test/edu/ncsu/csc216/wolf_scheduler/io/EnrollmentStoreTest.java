@@ -0,0 +1,344 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the EnrollmentStore class.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class EnrollmentStoreTest {
+
+	/** Directory holding the store under test */
+	private Path dir;
+	/** A course to enroll in */
+	private Course course;
+	/** An event to enroll in */
+	private Event event;
+
+	/**
+	 * Creates an empty directory for the store.
+	 * @throws IOException if the directory cannot be created
+	 */
+	@BeforeEach
+	public void setUp() throws IOException {
+		dir = Files.createTempDirectory("enrollment_store");
+		course = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330, 1445);
+		event = new Event("Exercise", "MWF", 800, 900, "Cardio");
+	}
+
+	/**
+	 * Deletes the store's directory.
+	 * @throws IOException if a file cannot be deleted
+	 */
+	@AfterEach
+	public void tearDown() throws IOException {
+		try (Stream<Path> files = Files.list(dir)) {
+			for (Path p : (Iterable<Path>) files::iterator) {
+				Files.delete(p);
+			}
+		}
+		Files.delete(dir);
+	}
+
+	/**
+	 * Tests that operations survive reopening the store from the log alone.
+	 * @throws IOException if the store fails
+	 */
+	@Test
+	public void testRecoverFromLog() throws IOException {
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			store.add("alice", course);
+			store.add("alice", event);
+			store.add("bob", event);
+			store.remove("alice", 0);
+			store.add("carol", course);
+			store.reset("carol");
+			assertThrows(IndexOutOfBoundsException.class, () -> store.remove("bob", 1));
+			assertThrows(IllegalArgumentException.class, () -> store.add("a,b", course));
+		}
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			assertEquals(List.of(event.toString()), store.getSchedule("alice"));
+			assertEquals(List.of(event.toString()), store.getSchedule("bob"));
+			assertEquals(0, store.getSchedule("carol").size());
+			assertEquals(0, store.getSchedule("dave").size());
+		}
+	}
+
+	/**
+	 * Tests that compaction moves schedules into the snapshot and empties the log,
+	 * and that later operations replay on top of the snapshot.
+	 * @throws IOException if the store fails
+	 */
+	@Test
+	public void testCompaction() throws IOException {
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			store.add("alice", course);
+			store.add("bob", event);
+			store.compact();
+			assertEquals(0, Files.size(dir.resolve("enrollment.log")));
+			store.add("alice", event);
+			store.reset("bob");
+			store.compact();
+			store.add("bob", course);
+		}
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			assertEquals(List.of(course.toString(), event.toString()), store.getSchedule("alice"));
+			assertEquals(List.of(course.toString()), store.getSchedule("bob"));
+		}
+
+		// A small threshold compacts as the log grows
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), 1)) {
+			store.add("carol", event);
+			assertEquals(0, Files.size(dir.resolve("enrollment.log")));
+			assertEquals(List.of(course.toString(), event.toString()), store.getSchedule("alice"));
+		}
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			assertEquals(List.of(event.toString()), store.getSchedule("carol"));
+			assertEquals(List.of(course.toString()), store.getSchedule("bob"));
+		}
+	}
+
+	/**
+	 * Tests that a record torn by a crash is discarded and the records before it are kept.
+	 * @throws IOException if the store fails
+	 */
+	@Test
+	public void testTornRecord() throws IOException {
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			store.add("alice", course);
+			store.add("alice", event);
+		}
+		Path log = dir.resolve("enrollment.log");
+		try (RandomAccessFile file = new RandomAccessFile(log.toFile(), "rw")) {
+			file.setLength(file.length() - 5);
+		}
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			assertEquals(List.of(course.toString()), store.getSchedule("alice"));
+			store.add("alice", event);
+		}
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			assertEquals(List.of(course.toString(), event.toString()), store.getSchedule("alice"));
+		}
+	}
+
+	/**
+	 * Tests that concurrent students all have their operations made durable.
+	 * @throws Exception if the store fails
+	 */
+	@Test
+	public void testGroupCommit() throws Exception {
+		int students = 8;
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			Thread[] threads = new Thread[students];
+			IOException[] errors = new IOException[students];
+			for (int i = 0; i < students; i++) {
+				final int s = i;
+				threads[i] = new Thread(() -> {
+					try {
+						for (int n = 0; n < 20; n++) {
+							store.add("student" + s, event);
+						}
+					} catch (IOException e) {
+						errors[s] = e;
+					}
+				});
+				threads[i].start();
+			}
+			for (Thread t : threads) {
+				t.join();
+			}
+			for (IOException e : errors) {
+				assertNull(e);
+			}
+		}
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			for (int i = 0; i < students; i++) {
+				assertEquals(20, store.getSchedule("student" + i).size());
+			}
+		}
+	}
+
+	/**
+	 * Tests recovery from a crash during compaction. A crash after the new snapshot
+	 * is written but before the manifest is switched leaves the old manifest and the
+	 * whole log, and a crash after the switch but before the log is emptied leaves
+	 * the new manifest and the whole log. Neither loses or repeats an operation.
+	 * @throws IOException if the store fails
+	 */
+	@Test
+	public void testCrashDuringCompaction() throws IOException {
+		Path manifest = dir.resolve("snapshot.manifest");
+		Path log = dir.resolve("enrollment.log");
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			store.add("alice", course);
+			store.compact();
+			store.add("alice", event);
+			store.add("bob", event);
+		}
+		byte[] oldManifest = Files.readAllBytes(manifest);
+		byte[] oldLog = Files.readAllBytes(log);
+		byte[] oldIndex = Files.readAllBytes(dir.resolve("snapshot.1.idx"));
+		byte[] oldSnapshot = Files.readAllBytes(dir.resolve("snapshot.1.dat"));
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			store.compact();
+		}
+		assertTrue(Files.exists(dir.resolve("snapshot.2.dat")));
+		assertFalse(Files.exists(dir.resolve("snapshot.1.dat")));
+
+		// Switched but not emptied: the records already in snapshot 2 are skipped
+		Files.write(log, oldLog);
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			assertEquals(List.of(course.toString(), event.toString()), store.getSchedule("alice"));
+			assertEquals(List.of(event.toString()), store.getSchedule("bob"));
+		}
+
+		// Not switched: snapshot 1 and the log are used and snapshot 2 is discarded
+		Files.write(manifest, oldManifest);
+		Files.write(dir.resolve("snapshot.1.idx"), oldIndex);
+		Files.write(dir.resolve("snapshot.1.dat"), oldSnapshot);
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			assertFalse(Files.exists(dir.resolve("snapshot.2.dat")));
+			assertEquals(List.of(course.toString(), event.toString()), store.getSchedule("alice"));
+			assertEquals(List.of(event.toString()), store.getSchedule("bob"));
+		}
+	}
+
+	/**
+	 * Tests that operations committed while the store compacts are neither lost nor
+	 * repeated after reopening.
+	 * @throws Exception if the store fails
+	 */
+	@Test
+	public void testCompactWhileCommitting() throws Exception {
+		int students = 4;
+		int adds = 50;
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			Thread[] threads = new Thread[students];
+			IOException[] errors = new IOException[students];
+			for (int i = 0; i < students; i++) {
+				final int s = i;
+				threads[i] = new Thread(() -> {
+					try {
+						for (int n = 0; n < adds; n++) {
+							store.add("student" + s, event);
+						}
+					} catch (IOException e) {
+						errors[s] = e;
+					}
+				});
+				threads[i].start();
+			}
+			for (int n = 0; n < 20; n++) {
+				store.compact();
+			}
+			for (Thread t : threads) {
+				t.join();
+			}
+			for (IOException e : errors) {
+				assertNull(e);
+			}
+		}
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			for (int i = 0; i < students; i++) {
+				assertEquals(adds, store.getSchedule("student" + i).size());
+			}
+		}
+	}
+
+	/**
+	 * Tests that concurrent removes of the last activity in a schedule are validated
+	 * against records still being written, so only one of them is accepted and every
+	 * accepted record applies.
+	 * @throws Exception if the store fails
+	 */
+	@Test
+	public void testConcurrentRemove() throws Exception {
+		int rounds = 200;
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			for (int n = 0; n < rounds; n++) {
+				store.add("s", event);
+				AtomicInteger removed = new AtomicInteger();
+				AtomicReference<Exception> error = new AtomicReference<Exception>();
+				Thread[] threads = new Thread[2];
+				for (int t = 0; t < threads.length; t++) {
+					threads[t] = new Thread(() -> {
+						try {
+							store.remove("s", 0);
+							removed.incrementAndGet();
+						} catch (IndexOutOfBoundsException e) {
+							// The other thread removed it first
+						} catch (Exception e) {
+							error.set(e);
+						}
+					});
+					threads[t].start();
+				}
+				for (Thread t : threads) {
+					t.join();
+				}
+				assertNull(error.get());
+				assertEquals(1, removed.get());
+				assertEquals(0, store.getSchedule("s").size());
+			}
+			store.add("other", course);
+		}
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			assertEquals(0, store.getSchedule("s").size());
+			assertEquals(List.of(course.toString()), store.getSchedule("other"));
+		}
+	}
+
+	/**
+	 * Tests that an intact record that cannot be applied is skipped on replay and the
+	 * committed records after it are kept.
+	 * @throws IOException if the store fails
+	 */
+	@Test
+	public void testReplaySkipsInapplicableRecord() throws IOException {
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			store.add("alice", course);
+		}
+		Files.writeString(dir.resolve("enrollment.log"), record("2,R,alice,5") + record("3,A,other," + event),
+				StandardOpenOption.APPEND);
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			assertEquals(List.of(event.toString()), store.getSchedule("other"));
+			store.add("other", course);
+		}
+		try (EnrollmentStore store = new EnrollmentStore(dir.toString(), Long.MAX_VALUE)) {
+			assertEquals(List.of(course.toString()), store.getSchedule("alice"));
+			assertEquals(List.of(event.toString(), course.toString()), store.getSchedule("other"));
+		}
+	}
+
+	/**
+	 * Builds a log record line with its checksum.
+	 * @param body the record body
+	 * @return the record line
+	 */
+	private static String record(String body) {
+		CRC32 crc = new CRC32();
+		crc.update(body.getBytes(StandardCharsets.UTF_8));
+		return Long.toHexString(crc.getValue()) + "," + body + "\n";
+	}
+
+}
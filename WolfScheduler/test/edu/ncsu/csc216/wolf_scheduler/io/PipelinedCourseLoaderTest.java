@@ -0,0 +1,111 @@
+package edu.ncsu.csc216.wolf_scheduler.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the PipelinedCourseLoader class.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class PipelinedCourseLoaderTest {
+
+	/**
+	 * Tests that the pipeline loads the same Courses in the same order as
+	 * readCourseRecords(), including invalid and duplicate lines.
+	 * @throws IOException if the records cannot be read
+	 */
+	@Test
+	public void testLoad() throws IOException {
+		PipelinedCourseLoader loader = new PipelinedCourseLoader(3, 2, 1);
+		assertEquals(CourseRecordIO.readCourseRecords("test-files/course_records.txt"),
+				loader.load(Path.of("test-files/course_records.txt")));
+		assertEquals(CourseRecordIO.readCourseRecords("test-files/invalid_course_records.txt"),
+				loader.load(Path.of("test-files/invalid_course_records.txt")));
+
+		StringBuilder records = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			records.append("CSC ").append(100 + i % 700).append(",Course ").append(i).append(",00").append(i % 7)
+					.append(",3,instr").append(i).append(",MW,").append(800 + i % 10).append(",900\n");
+			if (i % 13 == 0) {
+				records.append("not a course\n");
+			}
+		}
+		ArrayList<Course> expected = CourseRecordIO.readCourseRecords(new StringReader(records.toString()));
+		ArrayList<Course> actual = new PipelinedCourseLoader(4, 64, 2).load(new StringReader(records.toString()));
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).toString(), actual.get(i).toString());
+		}
+
+		assertEquals(0, loader.load(new StringReader("")).size());
+		assertThrows(IllegalArgumentException.class, () -> new PipelinedCourseLoader(1, 0, 1));
+	}
+
+	/**
+	 * Tests that a read failure is reported to the caller.
+	 */
+	@Test
+	public void testReadError() {
+		Reader failing = new Reader() {
+			private int reads;
+
+			@Override
+			public int read(char[] buf, int off, int len) throws IOException {
+				if (reads++ > 0) {
+					throw new IOException("Disk error");
+				}
+				String line = "CSC 116,Intro to Programming - Java,001,3,jdyoung2,MW,910,1100\n";
+				line.getChars(0, line.length(), buf, off);
+				return line.length();
+			}
+
+			@Override
+			public void close() {
+				// Nothing to close
+			}
+		};
+		IOException e = assertThrows(IOException.class, () -> new PipelinedCourseLoader(2, 1, 1).load(failing));
+		assertEquals("Disk error", e.getMessage());
+	}
+
+	/**
+	 * Tests that a reader thread that dies from a runtime exception still ends the
+	 * pipeline, and that the exception is rethrown to the caller.
+	 */
+	@Test
+	public void testReaderRuntimeException() {
+		Reader failing = new Reader() {
+			private int reads;
+
+			@Override
+			public int read(char[] buf, int off, int len) {
+				if (reads++ > 0) {
+					throw new IllegalStateException("Reader broke");
+				}
+				String line = "CSC 116,Intro to Programming - Java,001,3,jdyoung2,MW,910,1100\n";
+				line.getChars(0, line.length(), buf, off);
+				return line.length();
+			}
+
+			@Override
+			public void close() {
+				// Nothing to close
+			}
+		};
+		IllegalStateException e = assertTimeoutPreemptively(Duration.ofSeconds(10),
+				() -> assertThrows(IllegalStateException.class, () -> new PipelinedCourseLoader(2, 1, 1).load(failing)));
+		assertEquals("Reader broke", e.getMessage());
+	}
+
+}
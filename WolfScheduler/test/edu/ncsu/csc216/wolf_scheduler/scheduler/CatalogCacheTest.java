@@ -0,0 +1,91 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the CatalogCache class.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class CatalogCacheTest {
+
+	/** Catalog for the past term */
+	private static final String PAST = "test-files/course_records.txt";
+	/** Catalog for the current term */
+	private static final String CURRENT = "test-files/starter_course_records.txt";
+	/** Catalog for the next term */
+	private static final String NEXT = "test-files/capacity_course_records.txt";
+
+	/**
+	 * Tests hits, misses, and least recently used eviction within the budget.
+	 */
+	@Test
+	public void testEviction() {
+		long past = CatalogCache.estimateBytes(new CourseCatalog(PAST));
+		long current = CatalogCache.estimateBytes(new CourseCatalog(CURRENT));
+		long next = CatalogCache.estimateBytes(new CourseCatalog(NEXT));
+		CatalogCache cache = new CatalogCache(past + current);
+
+		CourseCatalog pastCatalog = cache.getCatalog(PAST);
+		assertSame(pastCatalog, cache.getCatalog(PAST));
+		CourseCatalog currentCatalog = cache.getCatalog(CURRENT);
+		assertEquals(2, cache.size());
+		assertEquals(past + current, cache.getHeapUsed());
+		assertEquals(1, cache.getHits());
+		assertEquals(2, cache.getMisses());
+
+		// Using the past term again makes the current term least recently used
+		assertSame(pastCatalog, cache.getCatalog(PAST));
+		cache.getCatalog(NEXT);
+		assertEquals(1, cache.getEvictions());
+		assertEquals(past + next, cache.getHeapUsed());
+		assertSame(pastCatalog, cache.getCatalog(PAST));
+		assertNotSame(currentCatalog, cache.getCatalog(CURRENT));
+		assertEquals(3, cache.getHits());
+		assertEquals(4, cache.getMisses());
+
+		// A catalog larger than the budget is returned but not kept
+		CatalogCache small = new CatalogCache(1);
+		CourseCatalog uncached = small.getCatalog(PAST);
+		assertEquals(13, uncached.size());
+		assertEquals(0, small.size());
+		assertNotSame(uncached, small.getCatalog(PAST));
+
+		assertThrows(IllegalArgumentException.class, () -> cache.getCatalog("test-files/no_such_file.txt"));
+		assertThrows(IllegalArgumentException.class, () -> new CatalogCache(-1));
+	}
+
+	/**
+	 * Tests that a changed file is parsed again and replaces its old catalog.
+	 * @throws IOException if the test file cannot be written
+	 */
+	@Test
+	public void testChangedFile() throws IOException {
+		Path file = Files.createTempFile("catalog_cache", ".txt");
+		try {
+			Files.copy(Path.of(CURRENT), file, StandardCopyOption.REPLACE_EXISTING);
+			CatalogCache cache = new CatalogCache(Long.MAX_VALUE);
+			CourseCatalog before = cache.getCatalog(file.toString());
+			assertSame(before, cache.getCatalog(file.toString()));
+
+			Files.writeString(file, "\nCSC 492,Senior Design,001,3,jtking,A", StandardOpenOption.APPEND);
+			CourseCatalog after = cache.getCatalog(file.toString());
+			assertNotSame(before, after);
+			assertEquals(before.size() + 1, after.size());
+			assertEquals(1, cache.size());
+			assertEquals(CatalogCache.estimateBytes(after), cache.getHeapUsed());
+			assertEquals(0, cache.getEvictions());
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+}
@@ -0,0 +1,96 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.ConflictException;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the CatalogConflictScanner class.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class CatalogConflictScannerTest {
+
+	/**
+	 * Tests that the scanner finds exactly the sections checkConflict() reports.
+	 */
+	@Test
+	public void testFindConflicts() {
+		CourseCatalog catalog = new CourseCatalog("test-files/course_records.txt");
+		CatalogConflictScanner scanner = CatalogConflictScanner.forCatalog(catalog);
+		assertSame(scanner, CatalogConflictScanner.forCatalog(catalog));
+
+		// 216-002 MW 1330-1445 touches the end; 217-223 W 1500-1650 overlaps
+		Event study = new Event("Study", "MW", 1445, 1530, "Library");
+		assertArrayEquals(new int[] {4, 8}, scanner.findConflicts(study));
+		assertEquals(2, scanner.countConflicts(study));
+		assertArrayEquals(new int[] {}, scanner.findConflicts(new Event("Brunch", "SU", 900, 1300, "")));
+		assertArrayEquals(new int[] {}, scanner.findConflicts(new Event("Night", "MTWHF", 2000, 2100, "")));
+
+		Event[] events = {study, new Event("Gym", "UMTWHFS", 1000, 1130, ""),
+			new Event("Work", "TH", 800, 1200, ""), new Event("Lunch", "MWF", 1200, 1200, "")};
+		for (Event e : events) {
+			assertArrayEquals(checkEach(catalog, e), scanner.findConflicts(e));
+			assertEquals(checkEach(catalog, e).length, scanner.countConflicts(e));
+		}
+		for (int row = 0; row < catalog.size(); row++) {
+			assertArrayEquals(checkEach(catalog, catalog.getCourse(row)), scanner.findConflicts(catalog.getCourse(row)));
+		}
+	}
+
+	/**
+	 * Tests that an activity with days outside the week is checked with checkConflict().
+	 */
+	@Test
+	public void testFindConflictsUnknownDays() {
+		CourseCatalog catalog = new CourseCatalog("test-files/course_records.txt");
+		Activity odd = new Activity("Odd", "WX", 1600, 1700) {
+			@Override
+			public String[] getShortDisplayArray() {
+				return new String[0];
+			}
+
+			@Override
+			public String[] getLongDisplayArray() {
+				return new String[0];
+			}
+
+			@Override
+			public void writeTo(Appendable out) {
+				// Nothing to write
+			}
+
+			@Override
+			public boolean isDuplicate(Activity activity) {
+				return false;
+			}
+		};
+		assertArrayEquals(new int[] {8}, CatalogConflictScanner.forCatalog(catalog).findConflicts(odd));
+		assertEquals(1, CatalogConflictScanner.forCatalog(catalog).countConflicts(odd));
+	}
+
+	/**
+	 * Finds the conflicting rows by calling checkConflict() on each section.
+	 * @param catalog the catalog
+	 * @param activity the activity to check
+	 * @return the conflicting rows
+	 */
+	private static int[] checkEach(CourseCatalog catalog, Activity activity) {
+		ArrayList<Integer> rows = new ArrayList<Integer>();
+		for (int row = 0; row < catalog.size(); row++) {
+			try {
+				activity.checkConflict(catalog.getCourse(row));
+			} catch (ConflictException e) {
+				rows.add(row);
+			}
+		}
+		return rows.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+}
@@ -0,0 +1,54 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the CatalogSearchIndex class.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class CatalogSearchIndexTest {
+
+	/**
+	 * Tests name prefix, word, and instructor searches.
+	 */
+	@Test
+	public void testSearch() {
+		CourseCatalog catalog = new CourseCatalog("test-files/course_records.txt");
+		CatalogSearchIndex index = CatalogSearchIndex.forCatalog(catalog);
+		assertSame(index, CatalogSearchIndex.forCatalog(catalog));
+
+		assertEquals(13, index.search("").length);
+		assertArrayEquals(new int[] {3, 4, 5, 6, 7, 8, 9, 10, 11}, index.search("CSC 2"));
+		assertArrayEquals(new int[] {6, 7, 8, 9}, index.search("csc 217"));
+		assertArrayEquals(new int[] {0, 1, 2}, index.search("  Intro "));
+		assertArrayEquals(new int[] {6, 7, 8, 9}, index.search("fundamentals la"));
+		assertArrayEquals(new int[] {3, 6, 7, 8, 9}, index.search("SESMITH5"));
+		assertArrayEquals(new int[] {3, 6, 7, 8, 9}, index.search("software sesm"));
+		assertArrayEquals(new int[] {4}, index.search("software ixd"));
+		assertArrayEquals(new int[] {10}, index.search("discrete"));
+		assertEquals(0, index.search("CSC 9").length);
+		assertEquals(0, index.search("intro data").length);
+	}
+
+	/**
+	 * Tests paging search results through WolfScheduler.
+	 */
+	@Test
+	public void testSearchCatalog() {
+		WolfScheduler ws = new WolfScheduler("test-files/course_records.txt");
+		assertEquals(9, ws.getCatalogSearchCount("CSC 2"));
+		String[][] page = ws.searchCatalog("CSC 2", 2, 3);
+		assertEquals(3, page.length);
+		assertEquals("CSC 216", page[0][0]);
+		assertEquals("601", page[0][1]);
+		assertEquals("CSC 217", page[2][0]);
+		assertEquals("211", page[2][1]);
+		assertEquals(3, ws.searchCatalog("CSC 2", 6, 10).length);
+		assertEquals(0, ws.searchCatalog("CSC 2", 20, 10).length);
+		assertThrows(IllegalArgumentException.class, () -> ws.searchCatalog("CSC", -1, 10));
+	}
+
+}
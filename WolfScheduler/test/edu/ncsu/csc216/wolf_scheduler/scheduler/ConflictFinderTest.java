@@ -0,0 +1,76 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Activity;
+import edu.ncsu.csc216.wolf_scheduler.course.ConflictException;
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
+
+/**
+ * Tests the ConflictFinder class.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class ConflictFinderTest {
+
+	/**
+	 * Tests findConflictingPairs() against pairwise checkConflict() calls.
+	 */
+	@Test
+	public void testFindConflictingPairs() {
+		ArrayList<Activity> activities = new ArrayList<Activity>();
+		activities.add(new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1330, 1445));
+		activities.add(new Course("CSC 226", "Discrete Mathematics for Computer Scientists", "001", 3, "tmbarnes", "MWF", 935, 1025));
+		activities.add(new Event("Exercise", "WF", 1445, 1530, "Cardio"));
+		activities.add(new Course("CSC 116", "Intro to Programming - Java", "001", 3, "jdyoung2", "A"));
+		activities.add(new Course("CSC 217", "Software Development Fundamentals Lab", "601", 1, "sesmith5", "A"));
+		activities.add(new Event("Lunch", "MTWHF", 1000, 1100, "Food"));
+		activities.add(new Event("Hike", "SU", 800, 1700, "Trail"));
+
+		List<int[]> pairs = ConflictFinder.findConflictingPairs(activities);
+		assertEquals(2, pairs.size());
+		assertArrayEquals(new int[] {0, 2}, pairs.get(0));
+		assertArrayEquals(new int[] {1, 5}, pairs.get(1));
+
+		int expected = 0;
+		for (int i = 0; i < activities.size(); i++) {
+			for (int j = i + 1; j < activities.size(); j++) {
+				Activity a = activities.get(i);
+				Activity b = activities.get(j);
+				try {
+					a.checkConflict(b);
+				} catch (ConflictException e) {
+					expected++;
+				}
+			}
+		}
+		assertEquals(expected, pairs.size());
+	}
+
+	/**
+	 * Tests findInstructorConflicts() only reports sections with the same instructor.
+	 */
+	@Test
+	public void testFindInstructorConflicts() {
+		ArrayList<Course> catalog = new ArrayList<Course>();
+		catalog.add(new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330, 1445));
+		catalog.add(new Course("CSC 216", "Software Development Fundamentals", "002", 3, "ixdoming", "TH", 1330, 1445));
+		catalog.add(new Course("CSC 217", "Software Development Fundamentals Lab", "211", 1, "sesmith5", "H", 1400, 1550));
+		catalog.add(new Course("CSC 217", "Software Development Fundamentals Lab", "601", 1, "sesmith5", "A"));
+		catalog.add(new Course("CSC 217", "Software Development Fundamentals Lab", "602", 1, "sesmith5", "A"));
+		catalog.add(new Course("CSC 230", "C and Software Tools", "001", 3, "sesmith5", "MW", 1330, 1445));
+
+		String[][] conflicts = ConflictFinder.findInstructorConflicts(catalog);
+		assertEquals(1, conflicts.length);
+		assertArrayEquals(new String[] {"sesmith5", "CSC 216", "001", "CSC 217", "211"}, conflicts[0]);
+
+		assertEquals(0, ConflictFinder.findInstructorConflicts(new ArrayList<Course>()).length);
+	}
+
+}
@@ -0,0 +1,127 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseChange;
+
+/**
+ * Tests the CourseCatalog class.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class CourseCatalogTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/starter_course_records.txt";
+
+	/**
+	 * Tests constructing a CourseCatalog from a file.
+	 */
+	@Test
+	public void testCourseCatalogFile() {
+		CourseCatalog catalog = new CourseCatalog(validTestFile);
+		assertEquals(13, catalog.size());
+		assertEquals("CSC 116", catalog.getCourse(0).getName());
+		assertEquals("001", catalog.getCourse(0).getSection());
+		assertEquals(13, catalog.getCourseCatalog().length);
+		assertEquals(13, catalog.getCourses().size());
+		
+		Exception e = assertThrows(IllegalArgumentException.class, () -> new CourseCatalog("test-files/not_a_file.txt"));
+		assertEquals("Cannot find file.", e.getMessage());
+	}
+
+	/**
+	 * Tests applyChanges().
+	 */
+	@Test
+	public void testApplyChanges() {
+		CourseCatalog catalog = new CourseCatalog(validTestFile);
+		Course unchanged = catalog.getCourse("CSC 226", "001");
+		ArrayList<CourseChange> changes = new ArrayList<CourseChange>();
+		changes.add(new CourseChange(CourseChange.MODIFY, new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "MW", 1500, 1615)));
+		changes.add(new CourseChange("CSC 116", "002"));
+		changes.add(new CourseChange(CourseChange.ADD, new Course("CSC 316", "Data Structures and Algorithms", "002", 3, "jtking", "TH", 1000, 1115)));
+		changes.add(new CourseChange(CourseChange.ADD, new Course("CSC 116", "Intro to Programming - Java", "001", 3, "someone", "A")));
+		changes.add(new CourseChange(CourseChange.MODIFY, new Course("CSC 492", "Senior Design", "001", 3, "sesmith5", "A")));
+		changes.add(new CourseChange(CourseChange.ADD, new Course("CSC 492", "Senior Design", "001", 3, "sesmith5", "A")));
+		changes.add(new CourseChange("CSC 492", "001"));
+		changes.add(new CourseChange("CSC 116", "002"));
+		changes.add(new CourseChange(CourseChange.ADD, new Course("CSC 116", "Intro to Programming - Java", "002", 3, "spbalik", "A")));
+		
+		CourseCatalog next = catalog.applyChanges(changes);
+		assertTrue(next.getVersion() > catalog.getVersion());
+		assertEquals(13, catalog.size());
+		assertEquals(14, next.size());
+		assertEquals(1500, next.getCourse("CSC 216", "001").getStartTime());
+		assertEquals(1330, catalog.getCourse("CSC 216", "001").getStartTime());
+		assertEquals("A", next.getCourse("CSC 116", "002").getMeetingDays());
+		assertEquals("jdyoung2", next.getCourse("CSC 116", "001").getInstructorId());
+		assertNull(next.getCourse("CSC 492", "001"));
+		assertSame(unchanged, next.getCourse("CSC 226", "001"));
+		
+		// Modified and re-added sections keep their position, new ones are appended
+		assertEquals("002", next.getCourse(1).getSection());
+		assertEquals("CSC 216", next.getCourse(4).getName());
+		assertEquals("CSC 316", next.getCourse(13).getName());
+		assertEquals("002", next.getCourse(13).getSection());
+		
+		changes.clear();
+		changes.add(new CourseChange("CSC 116", "002"));
+		assertEquals(13, next.applyChanges(changes).size());
+		assertEquals(14, next.applyChanges(new ArrayList<CourseChange>()).size());
+	}
+	
+	/**
+	 * Tests constructing a CourseCatalog from a list and looking up Courses.
+	 */
+	@Test
+	public void testGetCourse() {
+		ArrayList<Course> courses = new ArrayList<Course>();
+		Course first = new Course("CSC 216", "Software Development Fundamentals", "001", 3, "sesmith5", "TH", 1330, 1445);
+		courses.add(first);
+		courses.add(new Course("CSC 216", "Software Development Fundamentals", "002", 3, "ixdoming", "MW", 1330, 1445));
+		courses.add(new Course("CSC 216", "Duplicate Section", "001", 3, "jctetter", "A"));
+		
+		CourseCatalog catalog = new CourseCatalog(courses);
+		assertEquals(2, catalog.size());
+		assertSame(first, catalog.getCourse("CSC 216", "001"));
+		assertEquals("002", catalog.getCourse("CSC 216", "002").getSection());
+		assertNull(catalog.getCourse("CSC 216", "003"));
+		assertNull(catalog.getCourse("CSC 492", "001"));
+		
+		courses.clear();
+		assertEquals(2, catalog.size());
+		assertThrows(UnsupportedOperationException.class, () -> catalog.getCourses().clear());
+		assertThrows(IllegalArgumentException.class, () -> new CourseCatalog((ArrayList<Course>) null));
+	}
+
+	/**
+	 * Tests getCourseCatalog() for a page of the catalog.
+	 */
+	@Test
+	public void testGetCourseCatalogPage() {
+		CourseCatalog catalog = new CourseCatalog(validTestFile);
+		String[][] all = catalog.getCourseCatalog();
+		String[][] page = catalog.getCourseCatalog(3, 4);
+		assertEquals(4, page.length);
+		for (int i = 0; i < page.length; i++) {
+			assertArrayEquals(all[3 + i], page[i]);
+		}
+		assertEquals(2, catalog.getCourseCatalog(11, 10).length);
+		assertEquals("CSC 316", catalog.getCourseCatalog(11, 10)[1][0]);
+		assertEquals(0, catalog.getCourseCatalog(13, 10).length);
+		assertEquals(0, catalog.getCourseCatalog(20, 10).length);
+		assertEquals(0, catalog.getCourseCatalog(0, 0).length);
+		assertArrayEquals(all, catalog.getCourseCatalog(0, Integer.MAX_VALUE));
+		
+		Exception e = assertThrows(IllegalArgumentException.class, () -> catalog.getCourseCatalog(-1, 5));
+		assertEquals("Invalid page.", e.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> catalog.getCourseCatalog(0, -1));
+	}
+
+}
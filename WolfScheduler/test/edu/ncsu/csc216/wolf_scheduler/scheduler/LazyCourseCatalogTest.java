@@ -0,0 +1,102 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.io.CourseChange;
+
+/**
+ * Tests the LazyCourseCatalog class.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class LazyCourseCatalogTest {
+
+	/** Valid course records */
+	private static final String VALID_FILE = "test-files/course_records.txt";
+
+	/**
+	 * Tests that a lazy catalog returns the same Courses as an eager one and keeps
+	 * only a bounded number cached.
+	 * @throws IOException if the catalog cannot be closed
+	 */
+	@Test
+	public void testLazyCatalog() throws IOException {
+		CourseCatalog eager = new CourseCatalog(VALID_FILE);
+		try (LazyCourseCatalog lazy = new LazyCourseCatalog(VALID_FILE, 2)) {
+			assertEquals(eager.size(), lazy.size());
+			assertEquals(0, lazy.getCachedCount());
+
+			Course c = lazy.getCourse("CSC 216", "001");
+			assertEquals(eager.getCourse("CSC 216", "001"), c);
+			assertEquals(1, lazy.getCachedCount());
+			assertSame(c, lazy.getCourse("CSC 216", "001"));
+			assertNull(lazy.getCourse("CSC 492", "001"));
+
+			// The first line for CSC 116 002 wins
+			assertEquals("spbalik", lazy.getCourse("CSC 116", "002").getInstructorId());
+
+			assertArrayEquals(eager.getCourseCatalog(), lazy.getCourseCatalog());
+			assertEquals(eager.getCourses(), lazy.getCourses());
+			assertEquals(2, lazy.getCachedCount());
+
+			// A Course still referenced is returned again after it leaves the cache
+			assertTrue(c.claimSeat());
+			assertSame(c, lazy.getCourse("CSC 216", "001"));
+			assertEquals(1, lazy.getCourse(3).getEnrollment());
+
+			assertEquals(eager.size() + 1, lazy.applyChanges(List.of(
+					new CourseChange("add",
+							new Course("CSC 492", "Senior Design", "001", 3, "jtking", "A")))).size());
+
+			WolfScheduler ws = new WolfScheduler(lazy);
+			assertTrue(ws.addCourseToSchedule("CSC 226", "001"));
+			assertEquals("CSC 226", ws.getScheduledActivities()[0][0]);
+			assertThrows(IndexOutOfBoundsException.class, () -> lazy.getCourse(eager.size()));
+		}
+		try (LazyCourseCatalog lazy = new LazyCourseCatalog(VALID_FILE, 100)) {
+			// A page reads only its own rows
+			assertArrayEquals(eager.getCourseCatalog(5, 3), lazy.getCourseCatalog(5, 3));
+			assertEquals(3, lazy.getCachedCount());
+		}
+	}
+
+	/**
+	 * Tests rows whose lines are invalid.
+	 * @throws IOException if the test file cannot be written
+	 */
+	@Test
+	public void testInvalidRows() throws IOException {
+		Path file = Files.createTempFile("lazy_catalog", ".txt");
+		Files.writeString(file, "CSC 216,Software Development Fundamentals,001,0,sesmith5,MW,1330,1445\r\n"
+				+ "too,few,fields\r\n"
+				+ "CSC 216,Software Development Fundamentals,001,3,sesmith5,MW,1330,1445\r\n"
+				+ "CSC 217,Software Development Fundamentals Lab,202,1,sesmith5,M,1040,12\r\n"
+				+ "CSC 226,Discrete Mathematics for Computer Scientists,001,3,tmbarnes,MWF,935,1025");
+		try (LazyCourseCatalog lazy = new LazyCourseCatalog(file.toString(), 10)) {
+			assertEquals(3, lazy.size());
+			assertEquals(3, lazy.getCourse("CSC 216", "001").getCredits());
+			assertNull(lazy.getCourse("CSC 217", "202"));
+			assertNull(lazy.getCourse(1));
+			assertEquals(1025, lazy.getCourse(2).getEndTime());
+			assertEquals(2, lazy.getCourseCatalog().length);
+			assertEquals(2, lazy.getCourses().size());
+			String[][] page = lazy.getCourseCatalog(1, 5);
+			assertEquals(2, page.length);
+			assertNull(page[0]);
+			assertEquals("CSC 226", page[1][0]);
+		} finally {
+			Files.delete(file);
+		}
+		assertThrows(IllegalArgumentException.class, () -> new LazyCourseCatalog("test-files/no_such_file.txt", 10));
+		assertThrows(IllegalArgumentException.class, () -> new LazyCourseCatalog(VALID_FILE, 0));
+	}
+
+}
@@ -0,0 +1,168 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the LiveCatalog class.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class LiveCatalogTest {
+
+	/** Valid course records */
+	private final String validTestFile = "test-files/starter_course_records.txt";
+
+	/**
+	 * Tests publish() and reload().
+	 * @throws IOException if the temporary catalog cannot be written
+	 */
+	@Test
+	public void testPublishAndReload() throws IOException {
+		Path dir = Files.createTempDirectory("live_catalog");
+		Path file = dir.resolve("catalog.txt");
+		Files.copy(Paths.get(validTestFile), file);
+		try (LiveCatalog live = new LiveCatalog(file.toString())) {
+			CourseCatalog first = live.getCatalog();
+			assertEquals(13, first.size());
+			
+			live.publish(new CourseCatalog(new ArrayList<Course>()));
+			assertEquals(0, live.getCatalog().size());
+			assertThrows(IllegalArgumentException.class, () -> live.publish(null));
+			
+			assertTrue(live.reload());
+			assertEquals(13, live.getCatalog().size());
+			assertNotSame(first, live.getCatalog());
+			
+			Files.delete(file);
+			assertFalse(live.reload());
+			assertEquals(13, live.getCatalog().size());
+		} finally {
+			Files.deleteIfExists(file);
+			Files.delete(dir);
+		}
+	}
+
+	/**
+	 * Tests that only newer versions are published and that replaced versions are
+	 * reclaimed once no session is pinned to them.
+	 * @throws InterruptedException if the test is interrupted
+	 */
+	@Test
+	public void testVersions() throws InterruptedException {
+		CourseCatalog older = new CourseCatalog(new ArrayList<Course>());
+		LiveCatalog live = new LiveCatalog(validTestFile);
+		assertTrue(older.getVersion() < live.getCatalog().getVersion());
+		assertFalse(live.publish(older));
+		assertFalse(live.publish(live.getCatalog()));
+		assertEquals(1, live.getRetainedVersionCount());
+		
+		WolfScheduler session = new WolfScheduler(live);
+		long pinned = session.getCatalogVersion();
+		assertTrue(live.reload());
+		assertTrue(live.reload());
+		assertEquals(3, live.getRetainedVersionCount());
+		
+		// Moving the session to the newest version releases the last pin on the old ones
+		assertTrue(session.getCatalogVersion() > pinned);
+		for (int i = 0; i < 50 && live.getRetainedVersionCount() > 1; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertEquals(1, live.getRetainedVersionCount());
+	}
+	
+	/**
+	 * Tests applying a change file to a live catalog.
+	 */
+	@Test
+	public void testApplyChanges() {
+		LiveCatalog live = new LiveCatalog(validTestFile);
+		WolfScheduler ws = new WolfScheduler(live);
+		assertTrue(ws.addCourseToSchedule("CSC 226", "001"));
+		assertTrue(ws.addCourseToSchedule("CSC 116", "002"));
+		long version = live.getCatalog().getVersion();
+		
+		assertEquals(6, live.applyChanges("test-files/course_changes.txt"));
+		assertTrue(live.getCatalog().getVersion() > version);
+		assertEquals(12, live.getCatalog().size());
+		
+		assertEquals(1, ws.getScheduledActivities().length);
+		assertEquals(1, ws.getCourseFromCatalog("CSC 226", "001").getEnrollment());
+		assertEquals("CSC 116", ws.getDroppedCourses()[0][0]);
+		
+		assertThrows(IllegalArgumentException.class, () -> live.applyChanges("test-files/not_a_file.txt"));
+	}
+	
+	/**
+	 * Tests that reloading the file keeps the seats claimed in unchanged Courses, so
+	 * a full section is not oversold and enrolled sessions keep their Courses.
+	 * @throws IOException if the temporary catalog cannot be written
+	 */
+	@Test
+	public void testReloadKeepsEnrollment() throws IOException {
+		Path dir = Files.createTempDirectory("live_catalog");
+		Path file = dir.resolve("catalog.txt");
+		Files.write(file, List.of("CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,1330,1445,1",
+				"CSC 226,Discrete Mathematics for Computer Scientists,001,3,tmbarnes,MWF,935,1025,1"));
+		try (LiveCatalog live = new LiveCatalog(file.toString())) {
+			WolfScheduler alice = new WolfScheduler(live);
+			WolfScheduler bob = new WolfScheduler(live);
+			assertTrue(alice.addCourseToSchedule("CSC 216", "001"));
+			
+			assertTrue(live.reload());
+			assertEquals(1, live.getCatalog().getCourse("CSC 216", "001").getEnrollment());
+			assertThrows(IllegalArgumentException.class, () -> bob.addCourseToSchedule("CSC 216", "001"));
+			assertEquals(1, alice.getScheduledActivities().length);
+			assertEquals(0, alice.getDroppedCourses().length);
+			
+			// A changed Course is replaced and the seat moves to it
+			Files.write(file, List.of("CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,1330,1445,2"));
+			assertTrue(live.reload());
+			assertEquals(1, alice.getScheduledActivities().length);
+			assertEquals(1, live.getCatalog().getCourse("CSC 216", "001").getEnrollment());
+			assertTrue(bob.addCourseToSchedule("CSC 216", "001"));
+			assertEquals(2, live.getCatalog().getCourse("CSC 216", "001").getEnrollment());
+		} finally {
+			Files.deleteIfExists(file);
+			Files.delete(dir);
+		}
+	}
+	
+	/**
+	 * Tests that a watched catalog is reloaded when its file changes.
+	 * @throws IOException if the temporary catalog cannot be written
+	 * @throws InterruptedException if the test is interrupted
+	 */
+	@Test
+	public void testStartWatching() throws IOException, InterruptedException {
+		Path dir = Files.createTempDirectory("live_catalog");
+		Path file = dir.resolve("catalog.txt");
+		Files.copy(Paths.get(validTestFile), file);
+		try (LiveCatalog live = new LiveCatalog(file.toString())) {
+			live.startWatching();
+			live.startWatching();
+			
+			List<String> lines = Files.readAllLines(file);
+			Files.write(file, lines.subList(0, 5));
+			for (int i = 0; i < 100 && live.getCatalog().size() != 4; i++) {
+				Thread.sleep(50);
+			}
+			assertEquals(4, live.getCatalog().size());
+		} finally {
+			Files.deleteIfExists(file);
+			Files.delete(dir);
+		}
+	}
+
+}
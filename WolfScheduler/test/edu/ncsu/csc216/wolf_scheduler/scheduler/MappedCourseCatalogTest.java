@@ -0,0 +1,88 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+
+/**
+ * Tests the MappedCourseCatalog class.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class MappedCourseCatalogTest {
+
+	/**
+	 * Tests that a mapped catalog returns the same Courses as an eager one.
+	 * @throws IOException if the mapped file cannot be written
+	 */
+	@Test
+	public void testMappedCatalog() throws IOException {
+		Path file = Files.createTempFile("mapped_catalog", ".dat");
+		try {
+			MappedCourseCatalog.build("test-files/capacity_course_records.txt", file.toString());
+			CourseCatalog eager = new CourseCatalog("test-files/capacity_course_records.txt");
+			MappedCourseCatalog mapped = new MappedCourseCatalog(file.toString());
+			assertEquals(eager.size(), mapped.size());
+			assertEquals(eager.getCourses(), mapped.getCourses());
+			assertArrayEquals(eager.getCourseCatalog(), mapped.getCourseCatalog());
+			for (Course c : eager.getCourses()) {
+				Course m = mapped.getCourse(c.getName(), c.getSection());
+				assertEquals(c, m);
+				assertEquals(c.getCapacity(), m.getCapacity());
+			}
+			assertNull(mapped.getCourse("CSC 492", "001"));
+			assertNull(mapped.getCourse("AAA 100", "001"));
+			assertNull(mapped.getCourse("ZZZ 100", "001"));
+
+			// A rebuild replaces the file with one that keeps its permissions
+			boolean posix = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+			Set<PosixFilePermission> shared = PosixFilePermissions.fromString("rw-r--r--");
+			if (posix) {
+				Files.setPosixFilePermissions(file, shared);
+			}
+			MappedCourseCatalog.build("test-files/course_records.txt", file.toString());
+			if (posix) {
+				assertEquals(shared, Files.getPosixFilePermissions(file));
+			}
+			MappedCourseCatalog rebuilt = new MappedCourseCatalog(file.toString());
+			assertEquals(new CourseCatalog("test-files/course_records.txt").getCourses(), rebuilt.getCourses());
+
+			// Each process builds its own Course, shared by every session in that process
+			Course c = rebuilt.getCourse("CSC 216", "001");
+			assertSame(c, rebuilt.getCourse(3));
+			assertNotSame(c, new MappedCourseCatalog(file.toString()).getCourse("CSC 216", "001"));
+
+			WolfScheduler ws = new WolfScheduler(rebuilt);
+			assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+			assertEquals(1, c.getEnrollment());
+
+			// A Course a schedule refers to survives collection along with its seats
+			for (int i = 0; i < 3; i++) {
+				System.gc();
+				assertNotNull(rebuilt.getCourse("CSC 116", "001"));
+			}
+			assertSame(c, rebuilt.getCourse("CSC 216", "001"));
+			assertEquals(1, rebuilt.getCourse(3).getEnrollment());
+			assertEquals(rebuilt.size(), rebuilt.getCourses().size());
+			assertThrows(IndexOutOfBoundsException.class, () -> rebuilt.getCourse(-1));
+
+			Files.writeString(file, "not a mapped catalog file");
+			Exception e = assertThrows(IllegalArgumentException.class, () -> new MappedCourseCatalog(file.toString()));
+			assertEquals("Invalid catalog file.", e.getMessage());
+		} finally {
+			Files.delete(file);
+		}
+		assertThrows(IllegalArgumentException.class, () -> new MappedCourseCatalog("test-files/no_such_file.dat"));
+	}
+
+}
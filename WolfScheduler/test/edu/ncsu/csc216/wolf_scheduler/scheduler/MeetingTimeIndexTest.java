@@ -0,0 +1,49 @@
+package edu.ncsu.csc216.wolf_scheduler.scheduler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the MeetingTimeIndex class.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class MeetingTimeIndexTest {
+
+	/**
+	 * Tests day and time window queries.
+	 */
+	@Test
+	public void testFind() {
+		CourseCatalog catalog = new CourseCatalog("test-files/course_records.txt");
+		MeetingTimeIndex index = MeetingTimeIndex.forCatalog(catalog);
+		assertSame(index, MeetingTimeIndex.forCatalog(catalog));
+
+		// 116-003 TH 1120-1310 ends after the window; 216-001 TH 1330 starts after it
+		assertArrayEquals(new int[] {}, index.find("TH", 900, 1300, false));
+		assertArrayEquals(new int[] {2, 3}, index.find("TH", 900, 1500, false));
+		assertArrayEquals(new int[] {2, 3, 5, 9}, index.find("HT", 900, 1500, true));
+		assertArrayEquals(new int[] {7}, index.find("TH", 800, 1100, false));
+		assertArrayEquals(new int[] {0, 1, 4, 6, 8, 11, 12}, index.find("MW", 0, 2359, false));
+		assertArrayEquals(new int[] {0, 1, 4, 6, 8, 10, 11, 12}, index.find("MWF", 0, 2359, false));
+		assertArrayEquals(new int[] {6}, index.find("M", 1040, 1230, false));
+		assertArrayEquals(new int[] {}, index.find("M", 1041, 1230, false));
+		assertArrayEquals(new int[] {5, 9}, index.find("", 0, 2359, true));
+		assertThrows(IllegalArgumentException.class, () -> index.find("TX", 900, 1300, false));
+		assertThrows(IllegalArgumentException.class, () -> index.find("TH", 1300, 900, false));
+	}
+
+	/**
+	 * Tests finding sections through WolfScheduler.
+	 */
+	@Test
+	public void testFindCatalogSections() {
+		WolfScheduler ws = new WolfScheduler("test-files/course_records.txt");
+		String[][] sections = ws.findCatalogSections("TH", 900, 1500, true);
+		assertEquals(4, sections.length);
+		assertArrayEquals(new String[] {"CSC 116", "003", "Intro to Programming - Java", "TH 11:20AM-1:10PM"}, sections[0]);
+		assertEquals("Arranged", sections[3][3]);
+	}
+
+}
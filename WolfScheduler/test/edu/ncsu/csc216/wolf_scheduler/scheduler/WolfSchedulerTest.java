@@ -10,10 +10,13 @@ import java.io.IOException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Scanner;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import edu.ncsu.csc216.wolf_scheduler.course.Activity;
 import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.course.Event;
 
 /**
  * Tests the WolfScheduler class.
@@ -310,6 +313,23 @@ public class WolfSchedulerTest {
 		assertEquals("Data Structures and Algorithms", catalog[12][2]);
 	}
 	
+	/**
+	 * Test WolfScheduler.getCourseCatalog() for a page and getCatalogSize().
+	 */
+	@Test
+	public void testGetCourseCatalogPage() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		assertEquals(13, ws.getCatalogSize());
+		String [][] page = ws.getCourseCatalog(10, 5);
+		assertEquals(3, page.length);
+		assertEquals("CSC 226", page[0][0]);
+		assertEquals("C and Software Tools", page[1][2]);
+		assertEquals("CSC 316", page[2][0]);
+		assertEquals(0, ws.getCourseCatalog(13, 5).length);
+		Exception e = assertThrows(IllegalArgumentException.class, () -> ws.getCourseCatalog(0, -5));
+		assertEquals("Invalid page.", e.getMessage());
+	}
+	
 	/**
 	 * Test WolfScheduler.getScheduledCourses().
 	 */
@@ -506,6 +526,241 @@ public class WolfSchedulerTest {
 		
 	}
 	
+	/**
+	 * Tests WolfScheduler.getInstructorConflicts().
+	 */
+	@Test
+	public void testGetInstructorConflicts() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		assertEquals(0, ws.getInstructorConflicts().length);
+		
+		WolfScheduler invalid = new WolfScheduler(invalidTestFile);
+		assertEquals(0, invalid.getInstructorConflicts().length);
+	}
+	
+	/**
+	 * Tests sessions that share one CourseCatalog.
+	 */
+	@Test
+	public void testSharedCatalog() {
+		CourseCatalog catalog = new CourseCatalog(validTestFile);
+		WolfScheduler ws1 = new WolfScheduler(catalog);
+		WolfScheduler ws2 = new WolfScheduler(catalog);
+		assertSame(catalog, ws1.getCatalog());
+		assertSame(ws1.getCourseFromCatalog(NAME, SECTION), ws2.getCourseFromCatalog(NAME, SECTION));
+		
+		assertTrue(ws1.addCourseToSchedule(NAME, SECTION));
+		assertEquals(1, ws1.getScheduledActivities().length);
+		assertEquals(0, ws2.getScheduledActivities().length);
+		assertEquals(13, ws2.getCourseCatalog().length);
+		
+		assertThrows(IllegalArgumentException.class, () -> new WolfScheduler((CourseCatalog) null));
+	}
+	
+	/**
+	 * Tests that seats are claimed on add and released on remove and reset.
+	 */
+	@Test
+	public void testSeatCapacity() {
+		CourseCatalog catalog = new CourseCatalog("test-files/capacity_course_records.txt");
+		Course course = catalog.getCourse("CSC 116", "001");
+		WolfScheduler ws1 = new WolfScheduler(catalog);
+		WolfScheduler ws2 = new WolfScheduler(catalog);
+		WolfScheduler ws3 = new WolfScheduler(catalog);
+		
+		assertTrue(ws1.addCourseToSchedule("CSC 116", "001"));
+		assertTrue(ws2.addCourseToSchedule("CSC 116", "001"));
+		Exception e = assertThrows(IllegalArgumentException.class, () -> ws3.addCourseToSchedule("CSC 116", "001"));
+		assertEquals("The course cannot be added because it is full.", e.getMessage());
+		assertEquals(0, ws3.getScheduledActivities().length);
+		assertEquals(2, course.getEnrollment());
+		
+		assertTrue(ws1.removeActivityFromSchedule(0));
+		assertEquals(1, course.getEnrollment());
+		assertTrue(ws3.addCourseToSchedule("CSC 116", "001"));
+		
+		ws2.addEventToSchedule(EVENT_TITLE, "SU", EVENT_START_TIME, EVENT_END_TIME, EVENT_DETAILS);
+		ws2.resetSchedule();
+		ws3.resetSchedule();
+		assertEquals(0, course.getEnrollment());
+		
+		assertThrows(IllegalArgumentException.class, () -> ws1.addCourseToSchedule("CSC 217", "202"));
+	}
+	
+	/**
+	 * Tests that concurrent sessions never overbook a course.
+	 * @throws InterruptedException if the test is interrupted
+	 */
+	@Test
+	public void testSeatCapacityConcurrent() throws InterruptedException {
+		CourseCatalog catalog = new CourseCatalog("test-files/capacity_course_records.txt");
+		AtomicInteger enrolled = new AtomicInteger();
+		Thread[] students = new Thread[32];
+		for (int i = 0; i < students.length; i++) {
+			students[i] = new Thread(() -> {
+				WolfScheduler ws = new WolfScheduler(catalog);
+				try {
+					ws.addCourseToSchedule("CSC 116", "001");
+					enrolled.incrementAndGet();
+				} catch (IllegalArgumentException e) {
+					assertEquals(0, ws.getScheduledActivities().length);
+				}
+			});
+			students[i].start();
+		}
+		for (Thread t : students) {
+			t.join();
+		}
+		assertEquals(2, enrolled.get());
+		assertEquals(2, catalog.getCourse("CSC 116", "001").getEnrollment());
+	}
+	
+	/**
+	 * Tests WolfScheduler.addActivitiesToSchedule().
+	 */
+	@Test
+	public void testAddActivitiesToSchedule() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		ws.addCourseToSchedule("CSC 316", "001");
+		
+		ArrayList<String[]> courses = new ArrayList<String[]>();
+		courses.add(new String[] {NAME, SECTION});
+		courses.add(new String[] {"CSC 230", "001"});
+		ArrayList<Event> events = new ArrayList<Event>();
+		events.add(new Event(EVENT_TITLE, "SU", EVENT_START_TIME, EVENT_END_TIME, EVENT_DETAILS));
+		
+		String[] results = ws.addActivitiesToSchedule(courses, events);
+		assertArrayEquals(new String[] {"", "", ""}, results);
+		assertEquals(4, ws.getScheduledActivities().length);
+		assertEquals(NAME, ws.getScheduledActivities()[1][0]);
+		assertEquals(EVENT_TITLE, ws.getScheduledActivities()[3][2]);
+		
+		// Failures against the schedule and within the batch add nothing
+		courses.clear();
+		courses.add(new String[] {"CSC 492", "001"});
+		courses.add(new String[] {"CSC 216", "002"});
+		courses.add(new String[] {"CSC 116", "003"});
+		courses.add(new String[] {"CSC 226", "001"});
+		courses.add(new String[] {"CSC 217", "601"});
+		events.clear();
+		events.add(new Event(EVENT_TITLE, "MW", 1700, 1800, EVENT_DETAILS));
+		events.add(new Event("Lunch", "H", 1300, 1400, "lunch time"));
+		events.add(new Event("Lunch", "S", 1300, 1400, "lunch time"));
+		results = ws.addActivitiesToSchedule(courses, events);
+		assertEquals("The course CSC 492 001 is not in the catalog.", results[0]);
+		assertEquals("You are already enrolled in CSC 216", results[1]);
+		assertEquals("", results[2]);
+		assertEquals("The course cannot be added due to a conflict.", results[3]);
+		assertEquals("", results[4]);
+		assertEquals("You have already created an event called Exercise", results[5]);
+		assertEquals("The event cannot be added due to a conflict.", results[6]);
+		assertEquals("You have already created an event called Lunch", results[7]);
+		assertEquals(4, ws.getScheduledActivities().length);
+		
+		assertThrows(IllegalArgumentException.class, () -> ws.addActivitiesToSchedule(null, new ArrayList<Event>()));
+	}
+	
+	/**
+	 * Tests that a batch holding a full course adds nothing and holds no seats.
+	 */
+	@Test
+	public void testAddActivitiesToScheduleFull() {
+		CourseCatalog catalog = new CourseCatalog("test-files/capacity_course_records.txt");
+		WolfScheduler ws = new WolfScheduler(catalog);
+		ArrayList<String[]> courses = new ArrayList<String[]>();
+		courses.add(new String[] {"CSC 116", "001"});
+		courses.add(new String[] {"CSC 216", "601"});
+		assertTrue(new WolfScheduler(catalog).addCourseToSchedule("CSC 216", "601"));
+		
+		String[] results = ws.addActivitiesToSchedule(courses, new ArrayList<Event>());
+		assertEquals("", results[0]);
+		assertEquals("The course cannot be added because it is full.", results[1]);
+		assertEquals(0, ws.getScheduledActivities().length);
+		assertEquals(0, catalog.getCourse("CSC 116", "001").getEnrollment());
+	}
+	
+	/**
+	 * Tests that a session moves its schedule to a replaced live catalog.
+	 */
+	@Test
+	public void testLiveCatalogRebind() {
+		LiveCatalog live = new LiveCatalog(validTestFile);
+		WolfScheduler ws = new WolfScheduler(live);
+		assertTrue(ws.addCourseToSchedule(NAME, SECTION));
+		assertTrue(ws.addCourseToSchedule("CSC 116", "003"));
+		assertTrue(ws.addCourseToSchedule("CSC 226", "001"));
+		ws.addEventToSchedule(EVENT_TITLE, "MW", 1700, 1800, EVENT_DETAILS);
+		Course oldCourse = ws.getCourseFromCatalog(NAME, SECTION);
+		
+		// CSC 216-001 is unchanged, CSC 116-003 is removed, and CSC 226-001 now conflicts
+		ArrayList<Course> courses = new ArrayList<Course>();
+		courses.add(new Course(NAME, TITLE, SECTION, CREDITS, INSTRUCTOR_ID, MEETING_DAYS, START_TIME, END_TIME));
+		courses.add(new Course("CSC 226", "Discrete Mathematics for Computer Scientists", "001", 3, "tmbarnes", "MW", 1730, 1820));
+		live.publish(new CourseCatalog(courses));
+		
+		String[][] schedule = ws.getScheduledActivities();
+		assertEquals(2, schedule.length);
+		assertEquals(NAME, schedule[0][0]);
+		assertEquals(EVENT_TITLE, schedule[1][2]);
+		assertEquals(0, oldCourse.getEnrollment());
+		assertEquals(1, ws.getCourseFromCatalog(NAME, SECTION).getEnrollment());
+		assertEquals(0, ws.getCourseFromCatalog("CSC 226", "001").getEnrollment());
+		assertSame(live.getCatalog(), ws.getCatalog());
+		
+		String[][] dropped = ws.getDroppedCourses();
+		assertEquals(2, dropped.length);
+		assertEquals("CSC 116", dropped[0][0]);
+		assertEquals("003", dropped[0][1]);
+		assertEquals("CSC 226", dropped[1][0]);
+		assertEquals(0, ws.getDroppedCourses().length);
+		
+		assertThrows(IllegalArgumentException.class, () -> new WolfScheduler((LiveCatalog) null));
+	}
+	
+	/**
+	 * Tests importSchedule() restores an exported schedule all or nothing.
+	 */
+	@Test
+	public void testImportSchedule() {
+		WolfScheduler ws = new WolfScheduler(validTestFile);
+		// CSC 492 is not in the catalog and "not a record" is neither a course nor an
+		// event, so both lines are reported and nothing in the file is added
+		String[] results = ws.importSchedule("test-files/import_schedule.txt");
+		assertEquals(6, results.length);
+		assertEquals("", results[0]);
+		assertEquals("", results[1]);
+		assertEquals("", results[2]);
+		assertEquals("The record is not a course in the catalog or a valid event.", results[3]);
+		assertEquals("The record is not a course in the catalog or a valid event.", results[4]);
+		assertEquals("", results[5]);
+		assertEquals(0, ws.getScheduledActivities().length);
+		
+		// A schedule with an event ahead of its courses comes back in the same order
+		ws.addEventToSchedule("Exercise", "SU", 800, 900, "Cardio, then stretching");
+		assertTrue(ws.addCourseToSchedule("CSC 216", "001"));
+		assertTrue(ws.addCourseToSchedule("CSC 226", "001"));
+		assertTrue(ws.addCourseToSchedule("CSC 217", "601"));
+		ws.exportSchedule("test-files/actual_schedule_export.txt");
+		WolfScheduler restored = new WolfScheduler(validTestFile);
+		assertArrayEquals(new String[] {"", "", "", ""}, restored.importSchedule("test-files/actual_schedule_export.txt"));
+		String[][] schedule = restored.getScheduledActivities();
+		assertEquals(4, schedule.length);
+		assertEquals("Exercise", schedule[0][2]);
+		assertEquals("CSC 216", schedule[1][0]);
+		assertEquals("CSC 226", schedule[2][0]);
+		assertEquals("CSC 217", schedule[3][0]);
+		assertArrayEquals(ws.getFullScheduledActivities(), restored.getFullScheduledActivities());
+		
+		// Importing again duplicates everything already scheduled, so nothing is added
+		results = restored.importSchedule("test-files/actual_schedule_export.txt");
+		assertEquals("You have already created an event called Exercise", results[0]);
+		assertEquals("You are already enrolled in CSC 216", results[1]);
+		assertEquals(4, restored.getScheduledActivities().length);
+		
+		Exception e = assertThrows(IllegalArgumentException.class, () -> ws.importSchedule("test-files/no_such_file.txt"));
+		assertEquals("The file cannot be read.", e.getMessage());
+	}
+
 	/**
 	 * Helper method to compare two files for the same contents
 	 * @param expFile expected output
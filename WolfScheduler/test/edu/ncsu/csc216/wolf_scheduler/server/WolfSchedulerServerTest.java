@@ -0,0 +1,122 @@
+package edu.ncsu.csc216.wolf_scheduler.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+
+/**
+ * Tests the WolfSchedulerServer class.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class WolfSchedulerServerTest {
+
+	/** Server under test */
+	private WolfSchedulerServer server;
+
+	/**
+	 * Starts a server on a free port.
+	 * @throws IOException if the server cannot start
+	 */
+	@BeforeEach
+	public void setUp() throws IOException {
+		server = new WolfSchedulerServer(new CourseCatalog("test-files/starter_course_records.txt"), 0, 2);
+		server.start();
+	}
+
+	/**
+	 * Stops the server.
+	 */
+	@AfterEach
+	public void tearDown() {
+		server.stop();
+	}
+
+	/**
+	 * Tests the catalog endpoint.
+	 * @throws IOException if the request fails
+	 */
+	@Test
+	public void testCatalog() throws IOException {
+		String[] response = request("GET", "/catalog", null);
+		assertEquals("200", response[0]);
+		assertTrue(response[1].startsWith("[[\"CSC 116\",\"001\",\"Intro to Programming - Java\",\"MW 9:10AM-11:00AM\"],"));
+
+		assertEquals("405", request("POST", "/catalog", null)[0]);
+		assertEquals("404", request("GET", "/catalog/nothing", null)[0]);
+	}
+
+	/**
+	 * Tests adding, removing, and exporting activities through the schedule endpoints.
+	 * @throws IOException if a request fails
+	 */
+	@Test
+	public void testSchedule() throws IOException {
+		String[] response = request("POST", "/schedule/course?session=s1&name=CSC%20216&section=001", null);
+		assertEquals("200", response[0]);
+		assertEquals("{\"added\":true}", response[1]);
+
+		response = request("POST", "/schedule/course", "session=s1&name=CSC+216&section=002");
+		assertEquals("400", response[0]);
+		assertEquals("{\"error\":\"You are already enrolled in CSC 216\"}", response[1]);
+
+		response = request("POST", "/schedule/course?session=s1&name=CSC%20492&section=001", null);
+		assertEquals("404", response[0]);
+
+		response = request("POST", "/schedule/event", "session=s1&title=Exercise&days=SU&start=800&end=900&details=%22Cardio%22");
+		assertEquals("200", response[0]);
+
+		response = request("POST", "/schedule/event", "session=s1&title=Lunch&days=MW&start=noon&end=100&details=");
+		assertEquals("{\"error\":\"Invalid parameter start.\"}", response[1]);
+
+		response = request("GET", "/schedule/export?session=s1", null);
+		assertEquals("{\"title\":\"My Schedule\",\"activities\":[[\"CSC 216\",\"001\",\"Software Development Fundamentals\",\"3\",\"sesmith5\",\"TH 1:30PM-2:45PM\",\"\"],"
+				+ "[\"\",\"\",\"Exercise\",\"\",\"\",\"SU 8:00AM-9:00AM\",\"\\\"Cardio\\\"\"]]}", response[1]);
+
+		assertEquals("[]", request("GET", "/schedule?session=s2", null)[1]);
+		assertEquals(2, server.getSessionCount());
+
+		assertEquals("200", request("POST", "/schedule/remove?session=s1&idx=0", null)[0]);
+		assertEquals("404", request("POST", "/schedule/remove?session=s1&idx=5", null)[0]);
+		assertEquals("200", request("POST", "/schedule/reset?session=s1", null)[0]);
+		assertEquals("[]", request("GET", "/schedule?session=s1", null)[1]);
+
+		assertEquals("{\"error\":\"Missing parameter session.\"}", request("GET", "/schedule", null)[1]);
+	}
+
+	/**
+	 * Sends a request to the server.
+	 * @param method request method
+	 * @param path path and query of the request
+	 * @param body form-encoded request body, or null for none
+	 * @return the response status and body
+	 * @throws IOException if the request fails
+	 */
+	private String[] request(String method, String path, String body) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + server.getPort() + path).openConnection();
+		connection.setRequestMethod(method);
+		if (body != null) {
+			connection.setDoOutput(true);
+			connection.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
+			try (OutputStream out = connection.getOutputStream()) {
+				out.write(body.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		int status = connection.getResponseCode();
+		try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+			return new String[] {"" + status, new String(in.readAllBytes(), StandardCharsets.UTF_8)};
+		}
+	}
+
+}
@@ -0,0 +1,122 @@
+package edu.ncsu.csc216.wolf_scheduler.tools;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.WolfScheduler;
+
+/**
+ * Tests the BulkScheduleExporter class.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class BulkScheduleExporterTest {
+
+	/**
+	 * Tests exporting many schedules through a small queue.
+	 * @throws Exception if the export fails
+	 */
+	@Test
+	public void testExport() throws Exception {
+		CourseCatalog catalog = new CourseCatalog("test-files/course_records.txt");
+		TreeMap<String, WolfScheduler> schedules = new TreeMap<String, WolfScheduler>();
+		for (int i = 0; i < 50; i++) {
+			WolfScheduler ws = new WolfScheduler(catalog);
+			ws.addCourseToSchedule("CSC 216", "001");
+			ws.addEventToSchedule("Study " + i, "MW", 800, 900, "Student " + i);
+			schedules.put("student" + i, ws);
+		}
+		Path dir = Files.createTempDirectory("bulk_export");
+		try {
+			BulkScheduleExporter exporter = new BulkScheduleExporter(dir.toString(), 3, 2);
+			String[][] report = exporter.export(schedules);
+			assertEquals(6, report.length);
+			assertArrayEquals(new String[] {"schedules", "50"}, report[0]);
+			assertArrayEquals(new String[] {"failed", "0"}, report[1]);
+			assertEquals(0, exporter.getFailures().length);
+			assertEquals(List.of("CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,1330,1445",
+					"Study 7,MW,800,900,Student 7"), Files.readAllLines(dir.resolve("student7.txt")));
+
+			long total = 0;
+			try (Stream<Path> files = Files.list(dir)) {
+				for (Path p : (Iterable<Path>) files::iterator) {
+					total += Files.size(p);
+				}
+			}
+			assertEquals("" + total, report[2][1]);
+
+			schedules.put("missing/student", new WolfScheduler(catalog));
+			report = exporter.export(schedules);
+			assertArrayEquals(new String[] {"failed", "1"}, report[1]);
+			assertArrayEquals(new String[] {"missing/student", "The file cannot be saved."}, exporter.getFailures()[0]);
+		} finally {
+			try (Stream<Path> files = Files.list(dir)) {
+				for (Path p : (Iterable<Path>) files::iterator) {
+					Files.delete(p);
+				}
+			}
+			Files.delete(dir);
+		}
+		assertThrows(IllegalArgumentException.class, () -> new BulkScheduleExporter("out", 0, 1));
+	}
+
+	/**
+	 * Tests importing saved schedules for archiving. Full sections are archived
+	 * without claiming seats, and schedules that do not import completely are
+	 * skipped.
+	 * @throws Exception if the import fails
+	 */
+	@Test
+	public void testImportSchedules() throws Exception {
+		CourseCatalog catalog = new CourseCatalog("test-files/capacity_course_records.txt");
+		Path dir = Files.createTempDirectory("bulk_import");
+		try {
+			Files.write(dir.resolve("alice.txt"), List.of(
+					"CSC 217,Software Development Fundamentals Lab,202,1,sesmith5,M,1040,1230",
+					"CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,1330,1445"));
+			Files.write(dir.resolve("bob.txt"), List.of(
+					"CSC 116,Intro to Programming - Java,001,3,jdyoung2,MW,0910,1100",
+					"Lunch,MW,1000,1030,Overlaps CSC 116"));
+			Files.write(dir.resolve("carol"), List.of("Lunch,MW,1200,1230,Cafe"));
+			Files.write(dir.resolve("dave.txt"), List.of(
+					"CSC 216,Software Development Fundamentals,001,3,sesmith5,TH,1330,1445",
+					"CSC 999,Retired Course,001,3,jdoe,MW,1500,1615"));
+			Files.createDirectory(dir.resolve("nested"));
+
+			ArrayList<String[]> skipped = new ArrayList<String[]>();
+			TreeMap<String, WolfScheduler> schedules = BulkScheduleExporter.importSchedules(catalog,
+					dir.toString(), skipped);
+			assertEquals(List.of("alice", "carol"), new ArrayList<String>(schedules.keySet()));
+			assertEquals(2, schedules.get("alice").getScheduledActivities().length);
+			assertEquals(0, catalog.getCourse("CSC 217", "202").getEnrollment());
+			assertEquals(0, catalog.getCourse("CSC 116", "001").getEnrollment());
+			assertEquals(2, skipped.size());
+			assertArrayEquals(new String[] {"bob", "The event cannot be added due to a conflict."}, skipped.get(0));
+			// CSC 999 is not in the catalog, so dave is skipped rather than archived with CSC 216 alone
+			assertArrayEquals(new String[] {"dave", "The record is not a course in the catalog or a valid event."},
+					skipped.get(1));
+
+			assertThrows(IOException.class, () -> BulkScheduleExporter.importSchedules(catalog,
+					dir.resolve("missing").toString(), skipped));
+		} finally {
+			Files.delete(dir.resolve("nested"));
+			try (Stream<Path> files = Files.list(dir)) {
+				for (Path p : (Iterable<Path>) files::iterator) {
+					Files.delete(p);
+				}
+			}
+			Files.delete(dir);
+		}
+	}
+
+}
@@ -0,0 +1,42 @@
+package edu.ncsu.csc216.wolf_scheduler.tools;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the ConflictScanBenchmark class.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class ConflictScanBenchmarkTest {
+
+	/**
+	 * Tests running a small benchmark and that every way finds the same conflicts.
+	 */
+	@Test
+	public void testRun() {
+		String[][] report = new ConflictScanBenchmark(5000, 20, 216).run();
+		assertEquals(4, report.length);
+		assertEquals("strings", report[0][0]);
+		assertEquals("checkConflict", report[1][0]);
+		assertEquals("timeKeys", report[2][0]);
+		assertEquals("columns", report[3][0]);
+		for (String[] row : report) {
+			assertEquals(5, row.length);
+			assertEquals("20", row[1]);
+			assertEquals(report[0][2], row[2]);
+		}
+		assertTrue(Long.parseLong(report[0][2]) > 0);
+	}
+
+	/**
+	 * Tests constructing a ConflictScanBenchmark with invalid values.
+	 */
+	@Test
+	public void testInvalidBenchmark() {
+		assertThrows(IllegalArgumentException.class, () -> new ConflictScanBenchmark(0, 10, 1));
+		assertThrows(IllegalArgumentException.class, () -> new ConflictScanBenchmark(10, 0, 1));
+	}
+
+}
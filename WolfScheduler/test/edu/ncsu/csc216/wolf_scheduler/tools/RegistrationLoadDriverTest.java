@@ -0,0 +1,79 @@
+package edu.ncsu.csc216.wolf_scheduler.tools;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import edu.ncsu.csc216.wolf_scheduler.course.Course;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.CourseCatalog;
+import edu.ncsu.csc216.wolf_scheduler.scheduler.LazyCourseCatalog;
+
+/**
+ * Tests the RegistrationLoadDriver class.
+ * @author Ryan Blazer
+ * @version 10/19/2026
+ */
+public class RegistrationLoadDriverTest {
+
+	/**
+	 * Tests running a small load and the shape of the report.
+	 * @throws IOException if the export directory cannot be created
+	 * @throws InterruptedException if the test is interrupted
+	 */
+	@Test
+	public void testRun() throws IOException, InterruptedException {
+		CourseCatalog catalog = new CourseCatalog("test-files/capacity_course_records.txt");
+		String[][] report = new RegistrationLoadDriver(catalog, 8, 200, 216).run();
+		assertEquals(5, report.length);
+		assertEquals("getCourseFromCatalog", report[0][0]);
+		assertEquals("exportSchedule", report[4][0]);
+		
+		int calls = 0;
+		for (String[] row : report) {
+			assertEquals(6, row.length);
+			calls += Integer.parseInt(row[1]);
+			assertTrue(Double.parseDouble(row[3]) <= Double.parseDouble(row[4]));
+			assertTrue(Double.parseDouble(row[4]) <= Double.parseDouble(row[5]));
+		}
+		assertEquals(8 * 200, calls);
+		
+		// Every session resets at the end, so every seat is released
+		for (Course c : catalog.getCourses()) {
+			assertEquals(0, c.getEnrollment());
+		}
+	}
+
+	/**
+	 * Tests running against a lazy catalog with rows that have no valid course. The
+	 * lookups and adds that draw those rows are not issued, and every other
+	 * operation still runs.
+	 * @throws IOException if the catalog or export directory cannot be used
+	 * @throws InterruptedException if the test is interrupted
+	 */
+	@Test
+	public void testRunWithInvalidRows() throws IOException, InterruptedException {
+		try (LazyCourseCatalog catalog = new LazyCourseCatalog("test-files/capacity_course_records.txt", 10)) {
+			assertNull(catalog.getCourse(4));
+			String[][] report = new RegistrationLoadDriver(catalog, 4, 200, 216).run();
+			int calls = 0;
+			for (String[] row : report) {
+				calls += Integer.parseInt(row[1]);
+			}
+			assertTrue(calls > 0 && calls < 4 * 200);
+		}
+	}
+
+	/**
+	 * Tests constructing a RegistrationLoadDriver with invalid values.
+	 */
+	@Test
+	public void testInvalidLoad() {
+		CourseCatalog catalog = new CourseCatalog("test-files/capacity_course_records.txt");
+		assertThrows(IllegalArgumentException.class, () -> new RegistrationLoadDriver(catalog, 0, 10, 1));
+		assertThrows(IllegalArgumentException.class, () -> new RegistrationLoadDriver(catalog, 10, 0, 1));
+		assertThrows(IllegalArgumentException.class, () -> new RegistrationLoadDriver(null, 10, 10, 1));
+	}
+
+}